@@ -0,0 +1,195 @@
+package com.contentgrid.spring.audit;
+
+import com.contentgrid.spring.audit.AsyncAuditProperties.OverflowPolicy;
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Hands audit events to the {@link AuditEventHandler}s on background threads, so slow handlers (like sending to a
+ * message broker) do not delay the response to the request.
+ * <p>
+ * Audit events are queued in a bounded queue. Every worker thread takes all queued events, up to the batch size, and
+ * hands them to the handlers at once. When the queue is full, the {@link OverflowPolicy} decides whether the request
+ * thread waits or the oldest queued event is dropped.
+ * <p>
+ * Queued events are handled before shutting down, up to the configured shutdown timeout. Events dispatched after
+ * shutdown are handled on the calling thread. The dispatcher shuts down as soon as the application context is closed,
+ * before other listeners for the {@link ContextClosedEvent}, so the handlers can still use infrastructure that stops
+ * accepting work when the context is closed (like the connection factory of a message broker).
+ */
+@Slf4j
+public class AsyncAuditEventDispatcher implements ApplicationListener<ContextClosedEvent>, ApplicationContextAware,
+        Ordered, DisposableBean {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final List<AuditEventHandler> auditEventHandlers;
+    private final AsyncAuditProperties properties;
+    private final BlockingQueue<AbstractAuditEvent> queue;
+    private final List<Thread> workers;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    private ApplicationContext applicationContext;
+
+    public AsyncAuditEventDispatcher(@NonNull List<AuditEventHandler> auditEventHandlers,
+            @NonNull AsyncAuditProperties properties) {
+        this.auditEventHandlers = List.copyOf(auditEventHandlers);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        var threadFactory = new CustomizableThreadFactory("contentgrid-audit-");
+        this.workers = new ArrayList<>(properties.getConcurrency());
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            var worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues an audit event to be handled by all handlers
+     */
+    public void dispatch(@NonNull AbstractAuditEvent auditEvent) {
+        if (!running) {
+            AuditEventHandlers.handle(auditEventHandlers, List.of(auditEvent));
+            return;
+        }
+
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    while (!queue.offer(auditEvent, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (!running) {
+                            // Shut down while waiting, so the queue may not be emptied anymore
+                            AuditEventHandlers.handle(auditEventHandlers, List.of(auditEvent));
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.error("Interrupted while waiting to queue audit event {}", auditEvent);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(auditEvent)) {
+                    var dropped = queue.poll();
+                    if (dropped != null) {
+                        droppedCount.incrementAndGet();
+                        log.warn("Audit event queue is full (capacity {}): dropped audit event {}",
+                                properties.getCapacity(), dropped);
+                    }
+                }
+            }
+        }
+
+        if (!running && queue.remove(auditEvent)) {
+            // Shut down while queueing, so the workers may have stopped before taking it
+            AuditEventHandlers.handle(auditEventHandlers, List.of(auditEvent));
+        }
+    }
+
+    private void work() {
+        var batch = new ArrayList<AbstractAuditEvent>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                AuditEventHandlers.handle(auditEventHandlers, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @return The number of audit events that are waiting to be handled
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of audit events that can be queued before the overflow policy applies
+     */
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * @return The number of audit events that were dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        // Also receives the events of child contexts
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        try {
+            shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown();
+    }
+
+    /**
+     * Stops queueing audit events and waits for the queued events to be handled, up to the shutdown timeout
+     */
+    public void shutdown() throws InterruptedException {
+        running = false;
+        var deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (var worker : workers) {
+            var remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining > 0) {
+                worker.join(remaining);
+            }
+        }
+        if (workers.stream().anyMatch(Thread::isAlive)) {
+            log.warn("Audit event handlers did not finish within {}: {} queued audit events are discarded",
+                    properties.getShutdownTimeout(), queue.size());
+            workers.forEach(Thread::interrupt);
+        }
+    }
+}
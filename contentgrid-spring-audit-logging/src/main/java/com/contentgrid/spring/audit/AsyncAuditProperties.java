@@ -0,0 +1,50 @@
+package com.contentgrid.spring.audit;
+
+import com.contentgrid.spring.audit.handler.BatchAuditEventHandler;
+import java.time.Duration;
+import lombok.Data;
+
+@Data
+public class AsyncAuditProperties {
+
+    /**
+     * Dispatch audit events to the handlers on background threads instead of on the request thread
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of audit events waiting to be handled
+     */
+    private int capacity = 10000;
+
+    /**
+     * Number of threads handling audit events
+     */
+    private int concurrency = 1;
+
+    /**
+     * Maximum number of audit events that are handed to a {@link BatchAuditEventHandler} at once
+     */
+    private int batchSize = 100;
+
+    /**
+     * What to do when an audit event is dispatched while the queue is full
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * Maximum time to wait for queued audit events to be handled when shutting down
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    public enum OverflowPolicy {
+        /**
+         * The request thread waits until there is room in the queue
+         */
+        BLOCK,
+        /**
+         * The oldest queued audit event is dropped to make room
+         */
+        DROP_OLDEST
+    }
+}
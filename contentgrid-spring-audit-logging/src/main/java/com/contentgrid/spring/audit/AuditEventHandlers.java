@@ -0,0 +1,37 @@
+package com.contentgrid.spring.audit;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.BatchAuditEventHandler;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands audit events to handlers, so a failing handler does not prevent the other handlers from processing them
+ */
+@UtilityClass
+@Slf4j
+class AuditEventHandlers {
+
+    static void handle(List<AuditEventHandler> auditEventHandlers, List<AbstractAuditEvent> auditEvents) {
+        for (AuditEventHandler auditEventHandler : auditEventHandlers) {
+            if (auditEventHandler instanceof BatchAuditEventHandler batchAuditEventHandler && auditEvents.size() > 1) {
+                try {
+                    batchAuditEventHandler.handleAll(auditEvents);
+                } catch (Exception ex) {
+                    log.error("Audit event handler {} failed to process {} events", auditEventHandler,
+                            auditEvents.size(), ex);
+                }
+            } else {
+                for (AbstractAuditEvent event : auditEvents) {
+                    try {
+                        auditEventHandler.handle(event);
+                    } catch (Exception ex) {
+                        log.error("Audit event handler {} failed to process event {}", auditEventHandler, event, ex);
+                    }
+                }
+            }
+        }
+    }
+}
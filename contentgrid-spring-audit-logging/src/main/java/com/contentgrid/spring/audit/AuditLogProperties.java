@@ -0,0 +1,27 @@
+package com.contentgrid.spring.audit;
+
+import com.contentgrid.spring.audit.handler.JsonLinesAuditHandler;
+import lombok.Data;
+
+@Data
+public class AuditLogProperties {
+
+    /**
+     * Stream that audit events are written to with the json log format.
+     * <p>
+     * {@link JsonLinesAuditHandler} writes to this stream directly, bypassing the logging system: appenders, filters
+     * and log levels of the logging configuration do not apply to audit events in json format.
+     */
+    private Target target = Target.STDOUT;
+
+    public enum Target {
+        /**
+         * Standard output of the process
+         */
+        STDOUT,
+        /**
+         * Standard error of the process
+         */
+        STDERR
+    }
+}
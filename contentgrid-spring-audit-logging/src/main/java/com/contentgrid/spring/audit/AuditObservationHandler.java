@@ -5,11 +5,17 @@ import com.contentgrid.spring.audit.extractor.AuditEventExtractor;
 import com.contentgrid.spring.audit.handler.AuditEventHandler;
 import io.micrometer.observation.Observation.Context;
 import io.micrometer.observation.ObservationHandler;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -17,6 +23,26 @@ public class AuditObservationHandler implements ObservationHandler<ServerRequest
 
     private final List<AuditEventExtractor> auditEventExtractors;
     private final List<AuditEventHandler> auditEventHandlers;
+    /**
+     * When present, audit events are handled asynchronously by this dispatcher instead of on the request thread
+     */
+    @Nullable
+    private final AsyncAuditEventDispatcher asyncDispatcher;
+
+    /**
+     * Extractors that can create an event builder, by handler method
+     */
+    private final Map<HandlerMethodKey, List<AuditEventExtractor>> eventBuilderCreators = new ConcurrentHashMap<>();
+
+    /**
+     * Extractors that can enhance an event builder, by event builder type
+     */
+    private final Map<Class<?>, List<AuditEventExtractor>> eventBuilderEnhancers = new ConcurrentHashMap<>();
+
+    public AuditObservationHandler(List<AuditEventExtractor> auditEventExtractors,
+            List<AuditEventHandler> auditEventHandlers) {
+        this(auditEventExtractors, auditEventHandlers, null);
+    }
 
     @Override
     public boolean supportsContext(Context context) {
@@ -26,19 +52,18 @@ public class AuditObservationHandler implements ObservationHandler<ServerRequest
     @Override
     public void onStop(ServerRequestObservationContext context) {
         var event = createAuditEvent(context);
-        if (event != null) {
-            for (AuditEventHandler auditEventHandler : auditEventHandlers) {
-                try {
-                    auditEventHandler.handle(event);
-                } catch (Exception ex) {
-                    log.error("Audit event handler {} failed to process event {}", auditEventHandler, event, ex);
-                }
-            }
+        if (event == null) {
+            return;
+        }
+        if (asyncDispatcher != null) {
+            asyncDispatcher.dispatch(event);
+        } else {
+            AuditEventHandlers.handle(auditEventHandlers, List.of(event));
         }
     }
 
     private AbstractAuditEvent createAuditEvent(ServerRequestObservationContext context) {
-        var maybeEventBuilder = auditEventExtractors.stream()
+        var maybeEventBuilder = findEventBuilderCreators(context).stream()
                 .flatMap(eventExtractor -> {
                     try {
                         return eventExtractor.createEventBuilder(context).stream();
@@ -54,10 +79,17 @@ public class AuditObservationHandler implements ObservationHandler<ServerRequest
         }
 
         var eventBuilder = maybeEventBuilder.get();
-        for (AuditEventExtractor tagExtractor : auditEventExtractors) {
+        var enhancers = findEventBuilderEnhancers(eventBuilder.getClass());
+        for (int i = 0; i < enhancers.size(); i++) {
+            var tagExtractor = enhancers.get(i);
             try {
                 var newEventBuilder = tagExtractor.enhance(context, eventBuilder);
                 if (newEventBuilder != null) {
+                    if (newEventBuilder.getClass() != eventBuilder.getClass()) {
+                        // The event builder was replaced by one of another type, which may have other enhancers
+                        enhancers = findEventBuilderEnhancersAfter(newEventBuilder.getClass(), tagExtractor);
+                        i = -1;
+                    }
                     eventBuilder = newEventBuilder;
                 } else {
                     log.error("Audit event extractor {} failed to enhance event {}: returned a null eventBuilder",
@@ -70,4 +102,57 @@ public class AuditObservationHandler implements ObservationHandler<ServerRequest
 
         return eventBuilder.build();
     }
+
+    private List<AuditEventExtractor> findEventBuilderCreators(ServerRequestObservationContext context) {
+        var handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            // A new HandlerMethod instance is created for every request, so it can not be used as key itself
+            return eventBuilderCreators.computeIfAbsent(
+                    new HandlerMethodKey(handlerMethod.getBeanType(), handlerMethod.getMethod()),
+                    key -> auditEventExtractors.stream()
+                            .filter(eventExtractor -> canCreateEventBuilder(eventExtractor, handlerMethod))
+                            .toList()
+            );
+        }
+        return auditEventExtractors;
+    }
+
+    private static boolean canCreateEventBuilder(AuditEventExtractor eventExtractor, HandlerMethod handlerMethod) {
+        try {
+            return eventExtractor.canCreateEventBuilder(handlerMethod);
+        } catch (Exception ex) {
+            log.error("Audit event extractor {} failed to determine if it handles {}", eventExtractor, handlerMethod,
+                    ex);
+            return true;
+        }
+    }
+
+    private List<AuditEventExtractor> findEventBuilderEnhancers(Class<?> eventBuilderType) {
+        return eventBuilderEnhancers.computeIfAbsent(eventBuilderType, type -> auditEventExtractors.stream()
+                .filter(eventExtractor -> canEnhance(eventExtractor, type))
+                .toList()
+        );
+    }
+
+    private List<AuditEventExtractor> findEventBuilderEnhancersAfter(Class<?> eventBuilderType,
+            AuditEventExtractor previousExtractor) {
+        var previousIndex = auditEventExtractors.indexOf(previousExtractor);
+        return findEventBuilderEnhancers(eventBuilderType).stream()
+                .filter(eventExtractor -> auditEventExtractors.indexOf(eventExtractor) > previousIndex)
+                .toList();
+    }
+
+    private static boolean canEnhance(AuditEventExtractor eventExtractor, Class<?> eventBuilderType) {
+        try {
+            return eventExtractor.canEnhance(eventBuilderType);
+        } catch (Exception ex) {
+            log.error("Audit event extractor {} failed to determine if it enhances {}", eventExtractor,
+                    eventBuilderType, ex);
+            return true;
+        }
+    }
+
+    private record HandlerMethodKey(Class<?> beanType, Method method) {
+
+    }
 }
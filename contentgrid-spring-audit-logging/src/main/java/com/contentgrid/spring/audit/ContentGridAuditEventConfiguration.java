@@ -10,6 +10,7 @@ import com.contentgrid.spring.audit.extractor.EntityRelationEventExtractor;
 import com.contentgrid.spring.audit.extractor.EntitySearchEventExtractor;
 import com.contentgrid.spring.audit.handler.AuditEventHandler;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mapping.context.PersistentEntities;
@@ -20,8 +21,9 @@ public class ContentGridAuditEventConfiguration {
 
     @Bean
     AuditObservationHandler auditObservabilityHandler(List<AuditEventExtractor> auditEventExtractors,
-            List<AuditEventHandler> auditEventHandlers) {
-        return new AuditObservationHandler(auditEventExtractors, auditEventHandlers);
+            List<AuditEventHandler> auditEventHandlers,
+            ObjectProvider<AsyncAuditEventDispatcher> asyncDispatcher) {
+        return new AuditObservationHandler(auditEventExtractors, auditEventHandlers, asyncDispatcher.getIfAvailable());
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package com.contentgrid.spring.audit.event;
 
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,4 +20,16 @@ public abstract class AbstractAuditEvent {
 
     int responseStatus;
     String responseLocation;
+
+    /**
+     * Unique id of the event, assigned when the event is stored to be sent later, so every delivery of the event has
+     * the same id; {@code null} when it is not assigned yet
+     */
+    String eventId;
+
+    /**
+     * Time at which the event occurred, assigned together with the {@link #eventId}; {@code null} when it is not
+     * assigned yet
+     */
+    Instant eventTime;
 }
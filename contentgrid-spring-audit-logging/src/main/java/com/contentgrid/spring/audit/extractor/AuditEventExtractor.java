@@ -4,6 +4,7 @@ import com.contentgrid.spring.audit.event.AbstractAuditEvent.AbstractAuditEventB
 import java.util.Optional;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 
 /**
  * Extracts audit information from a {@link ServerRequestObservationContext}
@@ -45,6 +46,34 @@ public interface AuditEventExtractor extends Ordered {
     AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder);
 
+    /**
+     * Determines if {@link #createEventBuilder(ServerRequestObservationContext)} can create a builder for requests that
+     * are handled by a handler method
+     * <p>
+     * The outcome is cached per handler method, so it may only depend on the handler method itself. When {@code false}
+     * is returned, this extractor is not asked to create event builders for requests handled by that handler method.
+     *
+     * @param handlerMethod The handler method that handles the request
+     * @return {@code false} if this extractor never creates an event builder for the handler method
+     */
+    default boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return true;
+    }
+
+    /**
+     * Determines if {@link #enhance(ServerRequestObservationContext, AbstractAuditEventBuilder)} can contribute
+     * information to event builders of a type
+     * <p>
+     * The outcome is cached per event builder type. When {@code false} is returned, this extractor is not asked to
+     * enhance event builders of that type.
+     *
+     * @param eventBuilderType The type of the event builder
+     * @return {@code false} if this extractor always returns event builders of this type unchanged
+     */
+    default boolean canEnhance(Class<?> eventBuilderType) {
+        return true;
+    }
+
     @Override
     default int getOrder() {
         return 0;
@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
@@ -45,6 +46,11 @@ public class BasicAuditEventExtractor implements AuditEventExtractor {
         return Optional.of(BasicAuditEvent.builder());
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return IGNORED_HANDLERS.stream().noneMatch(h -> h.matches(handlerMethod));
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
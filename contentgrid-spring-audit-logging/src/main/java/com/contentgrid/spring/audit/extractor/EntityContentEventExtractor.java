@@ -11,6 +11,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 
 @RequiredArgsConstructor
@@ -50,6 +51,16 @@ public class EntityContentEventExtractor implements AuditEventExtractor {
                 );
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return METHODS.keySet().stream().anyMatch(matcher -> matcher.matches(handlerMethod));
+    }
+
+    @Override
+    public boolean canEnhance(Class<?> eventBuilderType) {
+        return EntityContentAuditEventBuilder.class.isAssignableFrom(eventBuilderType);
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
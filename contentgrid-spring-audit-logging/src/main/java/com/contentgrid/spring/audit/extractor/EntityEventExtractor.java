@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 
 @RequiredArgsConstructor
@@ -20,6 +21,16 @@ public class EntityEventExtractor implements AuditEventExtractor {
         return Optional.empty();
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return false;
+    }
+
+    @Override
+    public boolean canEnhance(Class<?> eventBuilderType) {
+        return AbstractEntityAuditEventBuilder.class.isAssignableFrom(eventBuilderType);
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
@@ -1,7 +1,7 @@
 package com.contentgrid.spring.audit.extractor;
 
 import com.contentgrid.spring.audit.event.AbstractAuditEvent.AbstractAuditEventBuilder;
-import com.contentgrid.spring.audit.event.AbstractEntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityItemAuditEvent.AbstractEntityItemAuditEventBuilder;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +11,7 @@ import org.springframework.http.server.observation.ServerRequestObservationConte
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.method.HandlerMethod;
 
 @RequiredArgsConstructor
 public class EntityItemCreateIdExtractor extends AbstractRepositoryEventListener<Object> implements
@@ -23,10 +24,20 @@ public class EntityItemCreateIdExtractor extends AbstractRepositoryEventListener
         return Optional.empty();
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return false;
+    }
+
+    @Override
+    public boolean canEnhance(Class<?> eventBuilderType) {
+        return AbstractEntityItemAuditEventBuilder.class.isAssignableFrom(eventBuilderType);
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
-        if (eventBuilder instanceof AbstractEntityItemAuditEvent.AbstractEntityItemAuditEventBuilder<?, ?> itemAuditEventBuilder) {
+        if (eventBuilder instanceof AbstractEntityItemAuditEventBuilder<?, ?> itemAuditEventBuilder) {
             Optional.ofNullable(context.get(EntityItemCreateIdExtractor.class))
                     .map(Objects::toString)
                     .ifPresent(itemAuditEventBuilder::id);
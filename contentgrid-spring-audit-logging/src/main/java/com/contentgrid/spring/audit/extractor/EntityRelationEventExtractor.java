@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 
 public class EntityRelationEventExtractor implements AuditEventExtractor {
@@ -73,6 +74,16 @@ public class EntityRelationEventExtractor implements AuditEventExtractor {
                 );
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return METHODS.keySet().stream().anyMatch(matcher -> matcher.matches(handlerMethod));
+    }
+
+    @Override
+    public boolean canEnhance(Class<?> eventBuilderType) {
+        return AbstractEntityRelationAuditEventBuilder.class.isAssignableFrom(eventBuilderType);
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
@@ -4,12 +4,12 @@ import com.contentgrid.spring.audit.event.AbstractAuditEvent.AbstractAuditEventB
 import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
 import com.contentgrid.spring.audit.event.EntitySearchAuditEvent.EntitySearchAuditEventBuilder;
 import java.util.Arrays;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 
 @RequiredArgsConstructor
@@ -32,16 +32,27 @@ public class EntitySearchEventExtractor implements AuditEventExtractor {
         return Optional.empty();
     }
 
+    @Override
+    public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+        return SEARCH_METHODS.matches(handlerMethod);
+    }
+
+    @Override
+    public boolean canEnhance(Class<?> eventBuilderType) {
+        return EntitySearchAuditEventBuilder.class.isAssignableFrom(eventBuilderType);
+    }
+
     @Override
     public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
             AbstractAuditEventBuilder<?, ?> eventBuilder) {
 
         if (eventBuilder instanceof EntitySearchAuditEventBuilder<?, ?> searchAuditEventBuilder) {
-            var parameters = context.getCarrier().getParameterMap()
-                    .entrySet()
-                    .stream()
-                    .map(e -> Map.entry(e.getKey(), Arrays.asList(e.getValue())))
-                    .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+            var parameterMap = context.getCarrier().getParameterMap();
+            // The lists are views on the parameter values, which are not modified after the request completes
+            var parameters = new LinkedHashMap<String, List<String>>(parameterMap.size() * 4 / 3 + 1);
+            for (var parameter : parameterMap.entrySet()) {
+                parameters.put(parameter.getKey(), Arrays.asList(parameter.getValue()));
+            }
             return searchAuditEventBuilder.queryParameters(parameters);
         }
 
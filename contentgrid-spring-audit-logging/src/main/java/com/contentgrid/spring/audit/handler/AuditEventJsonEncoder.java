@@ -0,0 +1,202 @@
+package com.contentgrid.spring.audit.handler;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityRelationAuditEvent;
+import com.contentgrid.spring.audit.event.EntityContentAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityRelationItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Writes audit events as single-line JSON objects, with the same keys and values as the key-values that
+ * {@link LoggingAuditHandler} attaches to its log messages, and additionally the {@code type} of the event, an ISO-8601
+ * {@code timestamp} in UTC with millisecond precision and the {@code relationId} of relation item events.
+ * <p>
+ * Events are appended to a caller-provided {@link StringBuilder}, so the buffer can be reused for every event. Names
+ * that do not change between events (event types) are computed once. The timestamp is the
+ * {@link AbstractAuditEvent#getEventTime() time of the event} when it is assigned, otherwise the current time; the
+ * date and time up to the second is only formatted when the second changes. All non-ASCII characters are escaped, so
+ * the output can be converted to bytes without a charset encoder.
+ */
+public class AuditEventJsonEncoder {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final DateTimeFormatter SECONDS_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss")
+            .withZone(ZoneOffset.UTC);
+
+    private final Clock clock;
+
+    /**
+     * The last formatted second; replaced as a whole, so it can be shared between threads
+     */
+    private volatile FormattedSecond formattedSecond = new FormattedSecond(Long.MIN_VALUE, "");
+
+    public AuditEventJsonEncoder() {
+        this(Clock.systemUTC());
+    }
+
+    public AuditEventJsonEncoder(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    private static final ClassValue<String> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> eventType) {
+            return quoted(eventType.getSimpleName());
+        }
+    };
+
+    private static String name(@Nullable Enum<?> constant) {
+        return constant == null ? null : constant.name();
+    }
+
+    /**
+     * Appends the audit event as a JSON object, without trailing newline
+     *
+     * @param auditEvent The audit event to encode
+     * @param out The buffer to append to
+     */
+    public void encode(AbstractAuditEvent auditEvent, StringBuilder out) {
+        out.append("{\"type\":").append(EVENT_TYPES.get(auditEvent.getClass()));
+        writeTimestamp(out, auditEvent.getEventTime());
+        writeString(out, "http.method", auditEvent.getRequestMethod());
+        writeString(out, "http.uri", auditEvent.getRequestUri());
+        out.append(",\"http.status\":").append(auditEvent.getResponseStatus());
+        if (auditEvent.getResponseLocation() != null) {
+            writeString(out, "responseLocation", auditEvent.getResponseLocation());
+        }
+
+        if (auditEvent instanceof AbstractEntityAuditEvent entityAuditEvent) {
+            var domainType = entityAuditEvent.getDomainType();
+            writeString(out, "domainType", domainType == null ? null : domainType.getSimpleName());
+        }
+        if (auditEvent instanceof AbstractEntityItemAuditEvent entityItemAuditEvent) {
+            writeString(out, "id", entityItemAuditEvent.getId());
+        }
+
+        if (auditEvent instanceof EntitySearchAuditEvent searchAuditEvent) {
+            writeQueryParameters(out, searchAuditEvent.getQueryParameters());
+        } else if (auditEvent instanceof EntityItemAuditEvent itemAuditEvent) {
+            writeString(out, "operation", name(itemAuditEvent.getOperation()));
+        } else if (auditEvent instanceof AbstractEntityRelationAuditEvent relationAuditEvent) {
+            writeString(out, "operation", name(relationAuditEvent.getOperation()));
+            writeString(out, "relation", relationAuditEvent.getRelationName());
+            if (relationAuditEvent instanceof EntityRelationItemAuditEvent relationItemAuditEvent) {
+                writeString(out, "relationId", relationItemAuditEvent.getRelationId());
+            }
+        } else if (auditEvent instanceof EntityContentAuditEvent contentAuditEvent) {
+            writeString(out, "operation", name(contentAuditEvent.getOperation()));
+            writeString(out, "content", contentAuditEvent.getContentName());
+        }
+        out.append('}');
+    }
+
+    private void writeTimestamp(StringBuilder out, @Nullable Instant eventTime) {
+        long epochSecond;
+        int millis;
+        if (eventTime != null) {
+            epochSecond = eventTime.getEpochSecond();
+            millis = eventTime.getNano() / 1_000_000;
+        } else {
+            var epochMilli = clock.millis();
+            epochSecond = Math.floorDiv(epochMilli, 1000);
+            millis = (int) Math.floorMod(epochMilli, 1000);
+        }
+
+        var second = formattedSecond;
+        if (second.epochSecond() != epochSecond) {
+            second = new FormattedSecond(epochSecond, SECONDS_FORMATTER.format(Instant.ofEpochSecond(epochSecond)));
+            formattedSecond = second;
+        }
+
+        out.append(",\"timestamp\":\"").append(second.formatted()).append('.')
+                .append((char) ('0' + millis / 100))
+                .append((char) ('0' + millis / 10 % 10))
+                .append((char) ('0' + millis % 10))
+                .append("Z\"");
+    }
+
+    private static void writeQueryParameters(StringBuilder out, @Nullable Map<String, List<String>> parameters) {
+        out.append(",\"query\":");
+        if (parameters == null) {
+            out.append("null");
+            return;
+        }
+        out.append('{');
+        boolean firstParameter = true;
+        for (var parameter : parameters.entrySet()) {
+            if (!firstParameter) {
+                out.append(',');
+            }
+            firstParameter = false;
+            writeValue(out, parameter.getKey());
+            out.append(":[");
+            var values = parameter.getValue();
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                writeValue(out, values.get(i));
+            }
+            out.append(']');
+        }
+        out.append('}');
+    }
+
+    private static void writeString(StringBuilder out, String key, @Nullable String value) {
+        // Keys are constants that do not need escaping
+        out.append(",\"").append(key).append("\":");
+        writeValue(out, value);
+    }
+
+    private static void writeValue(StringBuilder out, @Nullable String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append("\\u")
+                                .append(HEX_DIGITS[(c >> 12) & 0xf])
+                                .append(HEX_DIGITS[(c >> 8) & 0xf])
+                                .append(HEX_DIGITS[(c >> 4) & 0xf])
+                                .append(HEX_DIGITS[c & 0xf]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private record FormattedSecond(long epochSecond, String formatted) {
+
+    }
+
+    private static String quoted(String value) {
+        var out = new StringBuilder();
+        writeValue(out, value);
+        return out.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.contentgrid.spring.audit.handler;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import java.util.List;
+
+/**
+ * {@link AuditEventHandler} that can handle multiple audit events more efficiently than one at a time.
+ * <p>
+ * When audit events are dispatched asynchronously, queued events are handed over in batches.
+ */
+public interface BatchAuditEventHandler extends AuditEventHandler {
+
+    void handleAll(List<AbstractAuditEvent> auditEvents);
+}
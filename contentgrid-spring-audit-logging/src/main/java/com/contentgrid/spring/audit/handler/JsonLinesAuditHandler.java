@@ -0,0 +1,79 @@
+package com.contentgrid.spring.audit.handler;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.NonNull;
+
+/**
+ * Writes every audit event as a line of JSON to an output stream, typically standard output.
+ * <p>
+ * Lines are written to the stream directly, not through the logging system, so the logging configuration (appenders,
+ * filters and levels) does not apply to them.
+ * <p>
+ * Events are encoded by {@link AuditEventJsonEncoder} into buffers that are reused per thread, so writing an audit
+ * event does not allocate memory in the common case. Lines are written whole, so they do not interleave with lines
+ * written by other threads.
+ */
+public class JsonLinesAuditHandler implements AuditEventHandler {
+
+    /**
+     * Buffers that have grown beyond this size (for example, for a search with very long query parameters) are not
+     * retained
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private final OutputStream outputStream;
+
+    private final AuditEventJsonEncoder encoder = new AuditEventJsonEncoder();
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    public JsonLinesAuditHandler(@NonNull OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void handle(AbstractAuditEvent auditEvent) {
+        var buffer = buffers.get();
+        var chars = buffer.chars;
+        chars.setLength(0);
+        encoder.encode(auditEvent, chars);
+        chars.append('\n');
+
+        var length = chars.length();
+        var bytes = buffer.bytes(length);
+        for (int i = 0; i < length; i++) {
+            // The encoder escapes all non-ASCII characters
+            bytes[i] = (byte) chars.charAt(i);
+        }
+
+        try {
+            synchronized (outputStream) {
+                outputStream.write(bytes, 0, length);
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (length > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private static class Buffers {
+
+        private final StringBuilder chars = new StringBuilder(512);
+
+        private byte[] bytes = new byte[512];
+
+        byte[] bytes(int length) {
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            return bytes;
+        }
+    }
+}
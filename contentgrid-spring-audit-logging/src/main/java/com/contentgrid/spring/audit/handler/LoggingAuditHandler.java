@@ -12,82 +12,170 @@ import java.util.Locale;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.event.Level;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 
+/**
+ * Logs every audit event as an INFO message, with the properties of the event attached as key-values.
+ * <p>
+ * Message templates, lower case operation names and boxed status codes are computed once, so the allocations per event
+ * are limited to the logging event itself and its arguments and key-values. {@link JsonLinesAuditHandler} avoids
+ * those as well, but writes outside of the logging system.
+ */
 @Slf4j
 public class LoggingAuditHandler implements AuditEventHandler {
 
+    private static final ClassValue<String[]> LOWER_CASE_NAMES = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> enumType) {
+            var constants = enumType.getEnumConstants();
+            var names = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                names[i] = ((Enum<?>) constants[i]).name().toLowerCase(Locale.ROOT);
+            }
+            return names;
+        }
+    };
+
+    /**
+     * Boxed HTTP status codes, so the status is not boxed for every argument and key-value it is logged as
+     */
+    private static final Integer[] STATUS_CODES = new Integer[600];
+
+    static {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            STATUS_CODES[i] = i;
+        }
+    }
+
+    /**
+     * Message templates by event type. The template also depends on whether the response status has a reason phrase
+     * and whether there is a response location; the 4 variants are indexed by {@link #templateIndex(boolean, boolean)}
+     */
+    private static final ClassValue<String[]> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> eventType) {
+            var templates = new String[4];
+            for (boolean hasReasonPhrase : new boolean[]{false, true}) {
+                for (boolean hasLocation : new boolean[]{false, true}) {
+                    templates[templateIndex(hasReasonPhrase, hasLocation)] = createTemplate(eventType,
+                            hasReasonPhrase, hasLocation);
+                }
+            }
+            return templates;
+        }
+    };
+
+    private static int templateIndex(boolean hasReasonPhrase, boolean hasLocation) {
+        return (hasReasonPhrase ? 1 : 0) | (hasLocation ? 2 : 0);
+    }
+
+    // Note: The log message should only be hardcoded text and placeholders.
+    // It is not safe to allow user input into the log message template
+    private static String createTemplate(Class<?> eventType, boolean hasReasonPhrase, boolean hasLocation) {
+        StringBuilder logMessage = new StringBuilder("{} {} -> {}");
+        if (hasReasonPhrase) {
+            logMessage.append(" {}");
+        }
+        if (hasLocation) {
+            logMessage.append(" {}");
+        }
+        if (AbstractEntityAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append(" - {}");
+        }
+        if (AbstractEntityItemAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append("({})");
+        }
+
+        if (EntitySearchAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append(" - search: {}");
+        } else if (EntityItemAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append(" - {}");
+        } else if (EntityRelationAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append(" - {} relation {}");
+        } else if (EntityContentAuditEvent.class.isAssignableFrom(eventType)) {
+            logMessage.append(" - {} content {}");
+        } else if (BasicAuditEvent.class.isAssignableFrom(eventType)) {
+            // do nothing
+        } else {
+            logMessage.append(" - {}");
+        }
+        return logMessage.toString();
+    }
+
     @Override
     public void handle(AbstractAuditEvent auditEvent) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
         var auditLogBuilder = log.atLevel(Level.INFO);
 
-        // Note: The log message should only be hardcoded text and placeholders.
-        // It is not safe to allow user input into the log message template
-        StringBuilder logMessage = new StringBuilder("{} {} -> {}");
-
+        var status = boxedStatus(auditEvent.getResponseStatus());
         auditLogBuilder = auditLogBuilder.addArgument(auditEvent.getRequestMethod())
                 .addKeyValue("http.method", auditEvent.getRequestMethod())
                 .addArgument(auditEvent.getRequestUri())
                 .addKeyValue("http.uri", auditEvent.getRequestUri())
-                .addArgument(auditEvent.getResponseStatus())
-                .addKeyValue("http.status", auditEvent.getResponseStatus())
+                .addArgument(status)
+                .addKeyValue("http.status", status)
         ;
         var httpStatus = HttpStatus.resolve(auditEvent.getResponseStatus());
         if (httpStatus != null) {
-            logMessage.append(" {}");
             auditLogBuilder = auditLogBuilder.addArgument(httpStatus.getReasonPhrase());
         }
 
         if (auditEvent.getResponseLocation() != null) {
-            logMessage.append(" {}");
             auditLogBuilder = auditLogBuilder.addArgument(auditEvent.getResponseLocation())
                     .addKeyValue("responseLocation", auditEvent.getResponseLocation());
         }
 
         if (auditEvent instanceof AbstractEntityAuditEvent entityAuditEvent) {
-            if (entityAuditEvent.getDomainType() != null) {
-                auditLogBuilder = auditLogBuilder.addArgument(entityAuditEvent.getDomainType().getSimpleName())
-                        .addKeyValue("domainType", entityAuditEvent.getDomainType().getSimpleName());
-            } else {
-                auditLogBuilder = auditLogBuilder.addArgument((Object) null)
-                        .addKeyValue("domainType", (Object) null);
-            }
-            logMessage.append(" - {}");
+            var domainType = entityAuditEvent.getDomainType() == null
+                    ? null : entityAuditEvent.getDomainType().getSimpleName();
+            auditLogBuilder = auditLogBuilder.addArgument(domainType)
+                    .addKeyValue("domainType", domainType);
         }
         if (auditEvent instanceof AbstractEntityItemAuditEvent entityItemAuditEvent) {
             auditLogBuilder = auditLogBuilder.addArgument(entityItemAuditEvent.getId())
                     .addKeyValue("id", entityItemAuditEvent.getId());
-            logMessage.append("({})");
         }
 
         if (auditEvent instanceof EntitySearchAuditEvent searchAuditEvent) {
-            logMessage.append(" - search: {}");
             auditLogBuilder = auditLogBuilder.addArgument(searchAuditEvent.getQueryParameters())
                     .addKeyValue("query", searchAuditEvent.getQueryParameters());
         } else if (auditEvent instanceof EntityItemAuditEvent itemAuditEvent) {
-            logMessage.append(" - {}");
-            auditLogBuilder = auditLogBuilder.addArgument(itemAuditEvent.getOperation().name().toLowerCase(Locale.ROOT))
+            auditLogBuilder = auditLogBuilder.addArgument(lowerCaseName(itemAuditEvent.getOperation()))
                     .addKeyValue("operation", itemAuditEvent.getOperation());
         } else if (auditEvent instanceof EntityRelationAuditEvent relationAuditEvent) {
-            logMessage.append(" - {} relation {}");
-            auditLogBuilder = auditLogBuilder.addArgument(
-                            relationAuditEvent.getOperation().name().toLowerCase(Locale.ROOT))
+            auditLogBuilder = auditLogBuilder.addArgument(lowerCaseName(relationAuditEvent.getOperation()))
                     .addKeyValue("operation", relationAuditEvent.getOperation())
                     .addArgument(relationAuditEvent.getRelationName())
                     .addKeyValue("relation", relationAuditEvent.getRelationName());
         } else if (auditEvent instanceof EntityContentAuditEvent contentAuditEvent) {
-            logMessage.append(" - {} content {}");
-            auditLogBuilder = auditLogBuilder.addArgument(
-                            contentAuditEvent.getOperation().name().toLowerCase(Locale.ROOT))
+            auditLogBuilder = auditLogBuilder.addArgument(lowerCaseName(contentAuditEvent.getOperation()))
                     .addKeyValue("operation", contentAuditEvent.getOperation())
                     .addArgument(contentAuditEvent.getContentName())
                     .addKeyValue("content", contentAuditEvent.getContentName());
         } else if (auditEvent instanceof BasicAuditEvent) {
             // do nothing
         } else {
-            logMessage.append(" - {}");
             auditLogBuilder = auditLogBuilder.addArgument(auditEvent);
         }
 
-        auditLogBuilder.log(logMessage.toString());
+        var template = TEMPLATES.get(auditEvent.getClass())[
+                templateIndex(httpStatus != null, auditEvent.getResponseLocation() != null)];
+        auditLogBuilder.log(template);
+    }
+
+    private static Integer boxedStatus(int status) {
+        return status >= 0 && status < STATUS_CODES.length ? STATUS_CODES[status] : Integer.valueOf(status);
+    }
+
+    /**
+     * @return The lower case name of the enum constant, computed once per constant
+     */
+    private static String lowerCaseName(@Nullable Enum<?> constant) {
+        if (constant == null) {
+            return null;
+        }
+        return LOWER_CASE_NAMES.get(constant.getDeclaringClass())[constant.ordinal()];
     }
 }
@@ -2,6 +2,8 @@ package com.contentgrid.spring.audit.handler.messaging;
 
 import com.contentgrid.spring.audit.event.AbstractAuditEvent;
 import com.contentgrid.spring.audit.handler.messaging.AuditEventToCloudEventMapper.AuditEventToCloudEventMapperBuilder;
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Function;
 import lombok.AccessLevel;
@@ -37,6 +39,19 @@ interface AuditEventToCloudEventMapper {
             return cloudEventType(event -> prefix + "." + mapper.apply(event));
         }
 
+        /**
+         * Maps every operation to a type with the lowercase operation name as suffix. The types are built up front,
+         * so no strings are built for every event.
+         */
+        default <E extends Enum<E>> AuditEventToCloudEventMapperBuilder<T> cloudEventType(String prefix,
+                Class<E> operationType, Function<T, E> getOperation) {
+            var cloudEventTypes = new EnumMap<E, String>(operationType);
+            for (var operation : operationType.getEnumConstants()) {
+                cloudEventTypes.put(operation, prefix + "." + operation.name().toLowerCase(Locale.ROOT));
+            }
+            return cloudEventType(event -> cloudEventTypes.get(getOperation.apply(event)));
+        }
+
         AuditEventToCloudEventMapperBuilder<T> cloudEventSubject(Function<T, String> getCloudEventType);
 
         AuditEventToCloudEventMapper build();
@@ -10,15 +10,24 @@ import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.data.PojoCloudEventData;
 import java.net.URI;
-import java.util.Locale;
-import java.util.Set;
-import java.util.UUID;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.IdGenerator;
 
+/**
+ * Converts audit events to a message containing a {@link io.cloudevents.CloudEvent}.
+ * <p>
+ * The mapper for every type of audit event is looked up once and cached. The id and time of the cloud event are the
+ * {@link AbstractAuditEvent#getEventId() id} and {@link AbstractAuditEvent#getEventTime() time} of the audit event
+ * when they are assigned; otherwise they are generated, by default as time-ordered UUIDs and the current time.
+ */
 @RequiredArgsConstructor
 public class AuditEventToCloudEventMessageConverter implements MessageConverter {
 
@@ -31,25 +40,29 @@ public class AuditEventToCloudEventMessageConverter implements MessageConverter
     @NonNull
     private final URI source;
 
-    private static final Set<AuditEventToCloudEventMapper> TYPE_MAPPING = Set.of(
+    @NonNull
+    private final IdGenerator idGenerator;
+
+    private static final List<AuditEventToCloudEventMapper> TYPE_MAPPING = List.of(
             AuditEventToCloudEventMapper.build(BasicAuditEvent.class)
                     .cloudEventType("cloud.contentgrid.audit.basic")
                     .cloudEventSubject(BasicAuditEvent::getRequestUri)
                     .build(),
             AuditEventToCloudEventMapper.build(EntityItemAuditEvent.class)
-                    .cloudEventType("cloud.contentgrid.audit.entity",
-                            e -> e.getOperation().name().toLowerCase(Locale.ROOT))
+                    .cloudEventType("cloud.contentgrid.audit.entity", Operation.class,
+                            EntityItemAuditEvent::getOperation)
                     .cloudEventSubject(
                             e -> e.getOperation() == Operation.CREATE ? e.getResponseLocation() : e.getRequestUri())
                     .build(),
             AuditEventToCloudEventMapper.build(AbstractEntityRelationAuditEvent.class)
                     .cloudEventType("cloud.contentgrid.audit.entity.relation",
-                            e -> e.getOperation().name().toLowerCase(Locale.ROOT))
+                            AbstractEntityRelationAuditEvent.Operation.class,
+                            AbstractEntityRelationAuditEvent::getOperation)
                     .cloudEventSubject(AbstractAuditEvent::getRequestUri)
                     .build(),
             AuditEventToCloudEventMapper.build(EntityContentAuditEvent.class)
                     .cloudEventType("cloud.contentgrid.audit.entity.content",
-                            e -> e.getOperation().name().toLowerCase(Locale.ROOT))
+                            EntityContentAuditEvent.Operation.class, EntityContentAuditEvent::getOperation)
                     .cloudEventSubject(AbstractAuditEvent::getRequestUri)
                     .build(),
             AuditEventToCloudEventMapper.build(EntitySearchAuditEvent.class)
@@ -58,6 +71,26 @@ public class AuditEventToCloudEventMessageConverter implements MessageConverter
                     .build()
     );
 
+    private static final ClassValue<AuditEventToCloudEventMapper> TYPE_MAPPERS = new ClassValue<>() {
+        @Override
+        protected AuditEventToCloudEventMapper computeValue(Class<?> eventType) {
+            for (var typeMapper : TYPE_MAPPING) {
+                if (typeMapper.getType().isAssignableFrom(eventType)) {
+                    return typeMapper;
+                }
+            }
+            return null;
+        }
+    };
+
+    public AuditEventToCloudEventMessageConverter(
+            MessageConverter delegate,
+            PojoCloudEventData.ToBytes<AbstractAuditEvent> mapper,
+            URI source
+    ) {
+        this(delegate, mapper, source, new TimeOrderedIdGenerator());
+    }
+
     @Override
     public Object fromMessage(Message<?> message, Class<?> targetClass) {
         // TODO: implement converting back from a message to audit event?
@@ -67,14 +100,18 @@ public class AuditEventToCloudEventMessageConverter implements MessageConverter
     @Override
     public Message<?> toMessage(Object payload, MessageHeaders headers) {
         if (payload instanceof AbstractAuditEvent auditEvent) {
-            var typeMapper = TYPE_MAPPING.stream()
-                    .filter(m -> m.supports(auditEvent))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Unsupported audit event type %s".formatted(auditEvent)));
+            var typeMapper = TYPE_MAPPERS.get(auditEvent.getClass());
+            if (typeMapper == null) {
+                throw new IllegalArgumentException("Unsupported audit event type %s".formatted(auditEvent));
+            }
 
             var cloudEvent = CloudEventBuilder.v1()
-                    .withId(UUID.randomUUID().toString())
+                    .withId(auditEvent.getEventId() != null
+                            ? auditEvent.getEventId()
+                            : idGenerator.generateId().toString())
+                    .withTime(OffsetDateTime.ofInstant(
+                            auditEvent.getEventTime() != null ? auditEvent.getEventTime() : Instant.now(),
+                            ZoneOffset.UTC))
                     .withSource(source)
                     .withType(typeMapper.toCloudEventType(auditEvent))
                     .withSubject(typeMapper.toCloudEventSubject(auditEvent))
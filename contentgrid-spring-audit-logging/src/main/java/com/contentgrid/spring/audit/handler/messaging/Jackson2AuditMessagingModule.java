@@ -77,6 +77,13 @@ public class Jackson2AuditMessagingModule extends SimpleModule {
         @JsonInclude(Include.NON_NULL)
         public abstract String getResponseLocation();
 
+        // Metadata of the event itself, not part of the payload
+        @JsonIgnore
+        public abstract String getEventId();
+
+        @JsonIgnore
+        public abstract Object getEventTime();
+
         @JsonProperty("subject.type")
         @JsonSerialize(using = EntityTypeToNameSerializer.class)
         @JsonInclude(Include.NON_NULL)
@@ -1,14 +1,14 @@
 package com.contentgrid.spring.audit.handler.messaging;
 
 import com.contentgrid.spring.audit.event.AbstractAuditEvent;
-import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.BatchAuditEventHandler;
+import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.lang.Nullable;
 import org.springframework.messaging.core.MessageSendingOperations;
 
 @RequiredArgsConstructor
-public class MessageSendingAuditHandler implements AuditEventHandler {
+public class MessageSendingAuditHandler implements BatchAuditEventHandler {
 
     @NonNull
     private final MessageSendingOperations<String> messageSendingOperations;
@@ -16,7 +16,28 @@ public class MessageSendingAuditHandler implements AuditEventHandler {
     @NonNull
     private final String destination;
 
+    @NonNull
+    private final BatchScope batchScope;
+
+    public MessageSendingAuditHandler(MessageSendingOperations<String> messageSendingOperations, String destination) {
+        this(messageSendingOperations, destination, Runnable::run);
+    }
+
     public void handle(AbstractAuditEvent auditEvent) {
         messageSendingOperations.convertAndSend(destination, auditEvent);
     }
+
+    @Override
+    public void handleAll(List<AbstractAuditEvent> auditEvents) {
+        batchScope.execute(() -> auditEvents.forEach(this::handle));
+    }
+
+    /**
+     * Scope in which all messages of a batch are sent, so they can share a connection to the broker
+     */
+    @FunctionalInterface
+    public interface BatchScope {
+
+        void execute(Runnable sends);
+    }
 }
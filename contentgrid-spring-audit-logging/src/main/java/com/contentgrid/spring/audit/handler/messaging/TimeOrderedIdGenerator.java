@@ -0,0 +1,25 @@
+package com.contentgrid.spring.audit.handler.messaging;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.util.IdGenerator;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562): a millisecond timestamp followed by random bits.
+ * <p>
+ * Unlike {@link UUID#randomUUID()}, the random bits are not taken from a shared {@link java.security.SecureRandom},
+ * so generating ids does not contend between threads. The ids only need to be unique, not unpredictable.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID generateId() {
+        var random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16)
+                | 0x7000L // version 7
+                | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L; // IETF variant
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,400 @@
+package com.contentgrid.spring.audit.handler.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable, append-only log of records in a local directory.
+ * <p>
+ * Records are appended to memory-mapped segment files of a fixed size. When a record does not fit in the current
+ * segment anymore, a new segment is started. A single consumer reads records with {@link #poll(int, Duration)} and
+ * confirms them with {@link #commit()}; the position up to which records are confirmed is stored in a checkpoint
+ * file, and segments that are completely confirmed are deleted. Records that were polled, but not committed are
+ * polled again.
+ * <p>
+ * Every record is stored as its length, a CRC32 checksum and the record itself. The length is written last, so a
+ * record that was only partially written is never read. When the spool is opened again, records after the checkpoint
+ * are read again; a record with an invalid checksum marks the end of the log. Records are verified again when they
+ * are polled: the remainder of a segment after a corrupt record is skipped, so it can not block the consumer.
+ * <p>
+ * Appended records are in the page cache immediately, so they survive the application crashing. They are forced to
+ * disk by {@link #flush()}, when a new segment is started and when the spool is closed.
+ * <p>
+ * A directory can only be used by one spool at a time: the spool holds an exclusive lock on a lock file in the
+ * directory until it is closed. The size of the spool can be limited; when the limit is reached, appending records
+ * fails until the consumer catches up.
+ */
+@Slf4j
+public class AuditEventSpool implements Closeable {
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String LOCK_FILE = "lock";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{20})\\.log");
+
+    private static final int HEADER_SIZE = 8;
+    private static final int END_OF_SEGMENT = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSegments;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    // Guarded by lock
+    private long writeSegment;
+    private MappedByteBuffer writeBuffer;
+    private int writeOffset;
+    private boolean closed;
+
+    // Only accessed by the consumer
+    private long readSegment;
+    private int readOffset;
+    private long pendingSegment;
+    private int pendingOffset;
+    private long readBufferSegment = -1;
+    private ByteBuffer readBuffer;
+
+    /**
+     * Oldest segment that is not completely committed; written by the consumer, read when appending to enforce the
+     * maximum size
+     */
+    private volatile long retainedSegment;
+
+    private final FileChannel lockChannel;
+    private final FileChannel checkpointChannel;
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+
+    /**
+     * @param directory Directory to store the segment files in; created when it does not exist
+     * @param segmentSize Size of a segment file in bytes. Records larger than a segment can not be appended.
+     */
+    public AuditEventSpool(@NonNull Path directory, int segmentSize) throws IOException {
+        this(directory, segmentSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param directory Directory to store the segment files in; created when it does not exist
+     * @param segmentSize Size of a segment file in bytes. Records larger than a segment can not be appended.
+     * @param maxSize Maximum size of all segment files together in bytes; rounded down to a whole number of segments,
+     * but at least 2 segments
+     * @throws IllegalStateException when the directory is in use by another spool
+     */
+    public AuditEventSpool(@NonNull Path directory, int segmentSize, long maxSize) throws IOException {
+        if (segmentSize < HEADER_SIZE + Integer.BYTES + 1) {
+            throw new IllegalArgumentException("Segment size %d is too small".formatted(segmentSize));
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(2, maxSize / segmentSize);
+
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileChannel checkpoint = null;
+        try {
+            lockDirectory();
+            checkpoint = FileChannel.open(directory.resolve(CHECKPOINT_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            checkpointChannel = checkpoint;
+            recover();
+        } catch (IOException | RuntimeException e) {
+            if (checkpoint != null) {
+                checkpoint.close();
+            }
+            // Releases the lock
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    private void lockDirectory() throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Locked by another spool in this JVM
+            fileLock = null;
+        }
+        if (fileLock == null) {
+            throw new IllegalStateException("Audit event spool directory %s is in use by another spool"
+                    .formatted(directory));
+        }
+    }
+
+    private void recover() throws IOException {
+        var segments = listSegments();
+
+        if (checkpointChannel.read(checkpointBuffer.clear(), 0) == checkpointBuffer.capacity()) {
+            checkpointBuffer.flip();
+            readSegment = checkpointBuffer.getLong();
+            readOffset = checkpointBuffer.getInt();
+        } else {
+            readSegment = segments.isEmpty() ? 0 : segments.get(0);
+            readOffset = 0;
+        }
+        if (!segments.isEmpty() && readSegment < segments.get(0)) {
+            // The segment of the checkpoint was already deleted
+            readSegment = segments.get(0);
+            readOffset = 0;
+        }
+        pendingSegment = readSegment;
+        pendingOffset = readOffset;
+        retainedSegment = readSegment;
+
+        writeSegment = segments.isEmpty() ? readSegment : Math.max(readSegment, segments.get(segments.size() - 1));
+        writeBuffer = mapSegment(writeSegment, MapMode.READ_WRITE);
+        writeOffset = findEndOfLog(writeBuffer, writeSegment == readSegment ? readOffset : 0);
+        if (writeBuffer.getInt(writeOffset) == END_OF_SEGMENT) {
+            // Stopped after finishing a segment, before the next one was started
+            startNextSegment();
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_FILE.matcher(file.getFileName().toString()))
+                    .filter(matcher -> matcher.matches())
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private int findEndOfLog(ByteBuffer segment, int offset) {
+        while (true) {
+            var length = segment.getInt(offset);
+            if (length == END_OF_SEGMENT || length == 0) {
+                return offset;
+            }
+            if (!isValidRecord(segment, offset, length, segmentSize - Integer.BYTES)) {
+                log.warn("Audit event spool segment {} is corrupt at offset {}: discarding the remainder",
+                        writeSegment, offset);
+                for (int i = offset; i < segmentSize; i++) {
+                    segment.put(i, (byte) 0);
+                }
+                return offset;
+            }
+            offset += HEADER_SIZE + length;
+        }
+    }
+
+    private static boolean isValidRecord(ByteBuffer segment, int offset, int length, int limit) {
+        return length > 0 && offset + HEADER_SIZE + length <= limit && hasValidChecksum(segment, offset, length);
+    }
+
+    private static boolean hasValidChecksum(ByteBuffer segment, int offset, int length) {
+        var crc = new CRC32();
+        crc.update(segment.slice(offset + HEADER_SIZE, length));
+        return (int) crc.getValue() == segment.getInt(offset + Integer.BYTES);
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve("segment-%020d.log".formatted(segment));
+    }
+
+    private MappedByteBuffer mapSegment(long segment, MapMode mode) throws IOException {
+        var options = mode == MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE};
+        try (var channel = FileChannel.open(segmentPath(segment), options)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(mode, 0, segmentSize);
+        }
+    }
+
+    private void startNextSegment() throws IOException {
+        writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+        writeBuffer.force();
+        writeSegment++;
+        writeBuffer = mapSegment(writeSegment, MapMode.READ_WRITE);
+        writeOffset = 0;
+    }
+
+    /**
+     * Appends a record to the log
+     *
+     * @param record The record; may not be empty
+     * @throws IllegalArgumentException when the record is larger than a segment
+     * @throws IllegalStateException when the spool is closed, or when it is full
+     * @throws UncheckedIOException when a new segment can not be created
+     */
+    public void append(byte @NonNull [] record) {
+        if (record.length == 0 || HEADER_SIZE + record.length + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Record of %d bytes does not fit in a segment of %d bytes"
+                    .formatted(record.length, segmentSize));
+        }
+        var crc = new CRC32();
+        crc.update(record);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Audit event spool is closed");
+            }
+            // Always leave room for the end of segment marker
+            if (writeOffset + HEADER_SIZE + record.length + Integer.BYTES > segmentSize) {
+                if (writeSegment + 1 - retainedSegment >= maxSegments) {
+                    throw new IllegalStateException("Audit event spool is full");
+                }
+                startNextSegment();
+            }
+            writeBuffer.put(writeOffset + HEADER_SIZE, record);
+            writeBuffer.putInt(writeOffset + Integer.BYTES, (int) crc.getValue());
+            // Written last, so the record is only visible once it is complete
+            writeBuffer.putInt(writeOffset, record.length);
+            writeOffset += HEADER_SIZE + record.length;
+            appended.signalAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the records after the last committed position, waiting for records to be appended when there are none
+     *
+     * @param maxRecords Maximum number of records to return
+     * @param timeout Maximum time to wait for a record to be appended
+     * @return The records, in the order they were appended; empty when no record was appended before the timeout
+     */
+    public List<byte[]> poll(int maxRecords, Duration timeout) throws IOException, InterruptedException {
+        long endSegment;
+        int endOffset;
+        lock.lock();
+        try {
+            var remaining = timeout.toNanos();
+            while (!closed && readSegment == writeSegment && readOffset == writeOffset && remaining > 0) {
+                remaining = appended.awaitNanos(remaining);
+            }
+            endSegment = writeSegment;
+            endOffset = writeOffset;
+        } finally {
+            lock.unlock();
+        }
+
+        var records = new ArrayList<byte[]>();
+        var segment = readSegment;
+        var offset = readOffset;
+        while (records.size() < maxRecords && (segment < endSegment || offset < endOffset)) {
+            var buffer = readBuffer(segment);
+            var length = buffer.getInt(offset);
+            if (length == END_OF_SEGMENT || length == 0) {
+                segment++;
+                offset = 0;
+                continue;
+            }
+            // Records before the write position of the current segment must end before it
+            var limit = segment < endSegment ? segmentSize - Integer.BYTES : endOffset;
+            if (!isValidRecord(buffer, offset, length, limit)) {
+                log.warn("Audit event spool segment {} is corrupt at offset {}: skipping the remainder",
+                        segment, offset);
+                if (segment < endSegment) {
+                    segment++;
+                    offset = 0;
+                } else {
+                    offset = endOffset;
+                }
+                continue;
+            }
+            var record = new byte[length];
+            buffer.get(offset + HEADER_SIZE, record);
+            records.add(record);
+            offset += HEADER_SIZE + length;
+        }
+        pendingSegment = segment;
+        pendingOffset = offset;
+        return records;
+    }
+
+    private ByteBuffer readBuffer(long segment) throws IOException {
+        if (readBufferSegment != segment) {
+            readBuffer = mapSegment(segment, MapMode.READ_ONLY);
+            readBufferSegment = segment;
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Confirms the records that were returned by the last {@link #poll(int, Duration)}, so they are not read again
+     */
+    public void commit() throws IOException {
+        checkpointBuffer.clear().putLong(pendingSegment).putInt(pendingOffset).flip();
+        checkpointChannel.write(checkpointBuffer, 0);
+
+        for (var segment = readSegment; segment < pendingSegment; segment++) {
+            try {
+                Files.deleteIfExists(segmentPath(segment));
+            } catch (IOException e) {
+                log.warn("Failed to delete audit event spool segment {}", segment, e);
+            }
+        }
+        readSegment = pendingSegment;
+        readOffset = pendingOffset;
+        retainedSegment = readSegment;
+    }
+
+    /**
+     * Forces appended records and the checkpoint to disk
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            if (!closed) {
+                writeBuffer.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+        checkpointChannel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            writeBuffer.force();
+            closed = true;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        checkpointChannel.force(false);
+        checkpointChannel.close();
+        // Releases the lock, so the directory can be used by another spool
+        lockChannel.close();
+    }
+
+    long getWriteSegment() {
+        lock.lock();
+        try {
+            return writeSegment;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
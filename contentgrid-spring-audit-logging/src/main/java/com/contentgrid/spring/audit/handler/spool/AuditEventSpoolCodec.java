@@ -0,0 +1,297 @@
+package com.contentgrid.spring.audit.handler.spool;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractAuditEvent.AbstractAuditEventBuilder;
+import com.contentgrid.spring.audit.event.AbstractEntityAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityAuditEvent.AbstractEntityAuditEventBuilder;
+import com.contentgrid.spring.audit.event.AbstractEntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityItemAuditEvent.AbstractEntityItemAuditEventBuilder;
+import com.contentgrid.spring.audit.event.AbstractEntityRelationAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityRelationAuditEvent.AbstractEntityRelationAuditEventBuilder;
+import com.contentgrid.spring.audit.event.BasicAuditEvent;
+import com.contentgrid.spring.audit.event.EntityContentAuditEvent;
+import com.contentgrid.spring.audit.event.EntityContentAuditEvent.EntityContentAuditEventBuilder;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent.EntityItemAuditEventBuilder;
+import com.contentgrid.spring.audit.event.EntityRelationAuditEvent;
+import com.contentgrid.spring.audit.event.EntityRelationItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityRelationItemAuditEvent.EntityRelationItemAuditEventBuilder;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent.EntitySearchAuditEventBuilder;
+import com.contentgrid.spring.audit.handler.messaging.TimeOrderedIdGenerator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.IdGenerator;
+
+/**
+ * Binary encoding of the audit events of this module, for storing them in an {@link AuditEventSpool}.
+ * <p>
+ * Every record starts with a format version and the event type, followed by the id and time of the event and its
+ * fields. Other event types can not be encoded. An event that has no id and time yet is assigned them when it is
+ * encoded, so every delivery of a spooled event has the same id and the time at which it was spooled.
+ * <p>
+ * Records of the previous format version, without id and time, can still be decoded.
+ */
+@Slf4j
+class AuditEventSpoolCodec {
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final byte FORMAT_VERSION_WITHOUT_ID = 1;
+
+    private static final byte BASIC = 1;
+    private static final byte ENTITY_ITEM = 2;
+    private static final byte ENTITY_SEARCH = 3;
+    private static final byte ENTITY_RELATION = 4;
+    private static final byte ENTITY_RELATION_ITEM = 5;
+    private static final byte ENTITY_CONTENT = 6;
+
+    private final ClassLoader classLoader;
+    private final IdGenerator idGenerator;
+
+    AuditEventSpoolCodec(@Nullable ClassLoader classLoader) {
+        this(classLoader, new TimeOrderedIdGenerator());
+    }
+
+    AuditEventSpoolCodec(@Nullable ClassLoader classLoader, IdGenerator idGenerator) {
+        this.classLoader = classLoader;
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * @return The encoded audit event, or {@code null} if the type of audit event is not supported
+     */
+    @Nullable
+    byte[] encode(AbstractAuditEvent auditEvent) {
+        var type = typeOf(auditEvent);
+        if (type == 0) {
+            return null;
+        }
+
+        var bytes = new ByteArrayOutputStream(256);
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeByte(type);
+            var eventId = auditEvent.getEventId();
+            var eventTime = auditEvent.getEventTime();
+            writeString(output, eventId != null ? eventId : idGenerator.generateId().toString());
+            writeInstant(output, eventTime != null ? eventTime : Instant.now());
+            writeString(output, auditEvent.getRequestMethod());
+            writeString(output, auditEvent.getRequestUri());
+            output.writeInt(auditEvent.getResponseStatus());
+            writeString(output, auditEvent.getResponseLocation());
+
+            if (auditEvent instanceof AbstractEntityAuditEvent entityAuditEvent) {
+                var domainType = entityAuditEvent.getDomainType();
+                writeString(output, domainType == null ? null : domainType.getName());
+            }
+            if (auditEvent instanceof AbstractEntityItemAuditEvent entityItemAuditEvent) {
+                writeString(output, entityItemAuditEvent.getId());
+            }
+
+            if (auditEvent instanceof EntitySearchAuditEvent searchAuditEvent) {
+                writeQueryParameters(output, searchAuditEvent.getQueryParameters());
+            } else if (auditEvent instanceof EntityItemAuditEvent itemAuditEvent) {
+                writeEnum(output, itemAuditEvent.getOperation());
+            } else if (auditEvent instanceof AbstractEntityRelationAuditEvent relationAuditEvent) {
+                writeEnum(output, relationAuditEvent.getOperation());
+                writeString(output, relationAuditEvent.getRelationName());
+                if (relationAuditEvent instanceof EntityRelationItemAuditEvent relationItemAuditEvent) {
+                    writeString(output, relationItemAuditEvent.getRelationId());
+                }
+            } else if (auditEvent instanceof EntityContentAuditEvent contentAuditEvent) {
+                writeEnum(output, contentAuditEvent.getOperation());
+                writeString(output, contentAuditEvent.getContentName());
+            }
+        } catch (IOException e) {
+            // Writing to a byte array can not fail
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte typeOf(AbstractAuditEvent auditEvent) {
+        // Exact types, so subclasses with additional information are not silently truncated
+        var eventType = auditEvent.getClass();
+        if (eventType == BasicAuditEvent.class) {
+            return BASIC;
+        } else if (eventType == EntityItemAuditEvent.class) {
+            return ENTITY_ITEM;
+        } else if (eventType == EntitySearchAuditEvent.class) {
+            return ENTITY_SEARCH;
+        } else if (eventType == EntityRelationAuditEvent.class) {
+            return ENTITY_RELATION;
+        } else if (eventType == EntityRelationItemAuditEvent.class) {
+            return ENTITY_RELATION_ITEM;
+        } else if (eventType == EntityContentAuditEvent.class) {
+            return ENTITY_CONTENT;
+        }
+        return 0;
+    }
+
+    /**
+     * @return The decoded audit event
+     * @throws IOException when the record is not a valid encoded audit event
+     */
+    AbstractAuditEvent decode(byte[] record) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(record))) {
+            var version = input.readByte();
+            if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_ID) {
+                throw new IOException("Unsupported audit event record format %d".formatted(version));
+            }
+            var type = input.readByte();
+            AbstractAuditEventBuilder<?, ?> builder = switch (type) {
+                case BASIC -> BasicAuditEvent.builder();
+                case ENTITY_ITEM -> EntityItemAuditEvent.builder();
+                case ENTITY_SEARCH -> EntitySearchAuditEvent.builder();
+                case ENTITY_RELATION -> EntityRelationAuditEvent.builder();
+                case ENTITY_RELATION_ITEM -> EntityRelationItemAuditEvent.builder();
+                case ENTITY_CONTENT -> EntityContentAuditEvent.builder();
+                default -> throw new IOException("Unknown audit event record type %d".formatted(type));
+            };
+            if (version == FORMAT_VERSION) {
+                builder.eventId(readString(input))
+                        .eventTime(readInstant(input));
+            }
+            builder.requestMethod(readString(input))
+                    .requestUri(readString(input))
+                    .responseStatus(input.readInt())
+                    .responseLocation(readString(input));
+
+            if (builder instanceof AbstractEntityAuditEventBuilder<?, ?> entityBuilder) {
+                entityBuilder.domainType(resolveDomainType(readString(input)));
+            }
+            if (builder instanceof AbstractEntityItemAuditEventBuilder<?, ?> entityItemBuilder) {
+                entityItemBuilder.id(readString(input));
+            }
+
+            if (builder instanceof EntitySearchAuditEventBuilder<?, ?> searchBuilder) {
+                searchBuilder.queryParameters(readQueryParameters(input));
+            } else if (builder instanceof EntityItemAuditEventBuilder<?, ?> itemBuilder) {
+                itemBuilder.operation(readEnum(input, EntityItemAuditEvent.Operation.class));
+            } else if (builder instanceof AbstractEntityRelationAuditEventBuilder<?, ?> relationBuilder) {
+                relationBuilder.operation(readEnum(input, AbstractEntityRelationAuditEvent.Operation.class))
+                        .relationName(readString(input));
+                if (builder instanceof EntityRelationItemAuditEventBuilder<?, ?> relationItemBuilder) {
+                    relationItemBuilder.relationId(readString(input));
+                }
+            } else if (builder instanceof EntityContentAuditEventBuilder<?, ?> contentBuilder) {
+                contentBuilder.operation(readEnum(input, EntityContentAuditEvent.Operation.class))
+                        .contentName(readString(input));
+            }
+            return builder.build();
+        }
+    }
+
+    @Nullable
+    private Class<?> resolveDomainType(@Nullable String className) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Domain type {} of spooled audit event can not be resolved", className);
+            return null;
+        }
+    }
+
+    private static void writeQueryParameters(DataOutputStream output, @Nullable Map<String, List<String>> parameters)
+            throws IOException {
+        if (parameters == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(parameters.size());
+        for (var parameter : parameters.entrySet()) {
+            writeString(output, parameter.getKey());
+            output.writeInt(parameter.getValue().size());
+            for (var value : parameter.getValue()) {
+                writeString(output, value);
+            }
+        }
+    }
+
+    @Nullable
+    private static Map<String, List<String>> readQueryParameters(DataInputStream input) throws IOException {
+        var size = input.readInt();
+        if (size < 0) {
+            return null;
+        }
+        var parameters = new LinkedHashMap<String, List<String>>();
+        for (int i = 0; i < size; i++) {
+            var key = readString(input);
+            var valueCount = input.readInt();
+            var values = new ArrayList<String>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(input));
+            }
+            parameters.put(key, values);
+        }
+        return parameters;
+    }
+
+    private static void writeEnum(DataOutputStream output, @Nullable Enum<?> value) throws IOException {
+        writeString(output, value == null ? null : value.name());
+    }
+
+    @Nullable
+    private static <E extends Enum<E>> E readEnum(DataInputStream input, Class<E> enumType) throws IOException {
+        var name = readString(input);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown %s %s".formatted(enumType.getSimpleName(), name), e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream output, Instant value) throws IOException {
+        output.writeLong(value.getEpochSecond());
+        output.writeInt(value.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream input) throws IOException {
+        var epochSecond = input.readLong();
+        var nano = input.readInt();
+        try {
+            return Instant.ofEpochSecond(epochSecond, nano);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid event time", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, @Nullable String value) throws IOException {
+        // writeUTF() is limited to 64kB, which is not enough for all URIs and query parameters
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Nullable
+    private static String readString(DataInputStream input) throws IOException {
+        var length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
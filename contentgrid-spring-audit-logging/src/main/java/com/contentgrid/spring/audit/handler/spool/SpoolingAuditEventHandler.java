@@ -0,0 +1,185 @@
+package com.contentgrid.spring.audit.handler.spool;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.BatchAuditEventHandler;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Writes audit events to an {@link AuditEventSpool} and forwards them to a delegate {@link AuditEventHandler} on a
+ * background thread.
+ * <p>
+ * Handling an audit event only appends it to the spool, so requests are not slowed down when the delegate (like a
+ * message broker) is slow or unavailable. The forwarder hands spooled events to the delegate in batches, and only
+ * removes them from the spool after the delegate handled them. When the delegate fails, the same batch is retried with
+ * an exponential backoff. Audit events are delivered at least once: a batch that was partially handled before a
+ * failure or a crash is handled again. Events are assigned their id and time when they are spooled, so a redelivered
+ * event has the same id and can be deduplicated by the consumer.
+ * <p>
+ * Audit events that can not be spooled are handed to the delegate directly.
+ */
+@Slf4j
+public class SpoolingAuditEventHandler implements AuditEventHandler, SmartLifecycle, DisposableBean {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final AuditEventSpool spool;
+    private final AuditEventHandler delegate;
+    private final AuditEventSpoolCodec codec;
+    private final int batchSize;
+    private final Duration retryInitialInterval;
+    private final Duration retryMaxInterval;
+
+    private Thread forwarder;
+    private volatile boolean running;
+
+    public SpoolingAuditEventHandler(
+            @NonNull AuditEventSpool spool,
+            @NonNull AuditEventHandler delegate,
+            int batchSize,
+            @NonNull Duration retryInitialInterval,
+            @NonNull Duration retryMaxInterval
+    ) {
+        this.spool = spool;
+        this.delegate = delegate;
+        this.codec = new AuditEventSpoolCodec(delegate.getClass().getClassLoader());
+        this.batchSize = batchSize;
+        this.retryInitialInterval = retryInitialInterval;
+        this.retryMaxInterval = retryMaxInterval;
+    }
+
+    @Override
+    public void handle(AbstractAuditEvent auditEvent) {
+        var record = codec.encode(auditEvent);
+        if (record != null) {
+            try {
+                spool.append(record);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to spool audit event {}, handling it directly", auditEvent, e);
+            }
+        }
+        delegate.handle(auditEvent);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (forwarder == null) {
+            running = true;
+            forwarder = new CustomizableThreadFactory("contentgrid-audit-spool-").newThread(this::forwardAll);
+            forwarder.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (forwarder == null) {
+            return;
+        }
+        running = false;
+        forwarder.interrupt();
+        try {
+            forwarder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        forwarder = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return forwarder != null;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        stop();
+        spool.close();
+    }
+
+    private void forwardAll() {
+        var retryInterval = retryInitialInterval;
+        while (running) {
+            try {
+                forwardBatch();
+                retryInterval = retryInitialInterval;
+            } catch (InterruptedException e) {
+                // Stopped; remaining audit events are forwarded after the next start
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to forward spooled audit events, retrying in {}", retryInterval, e);
+                if (!sleep(retryInterval)) {
+                    return;
+                }
+                retryInterval = min(retryInterval.multipliedBy(2), retryMaxInterval);
+            }
+        }
+    }
+
+    /**
+     * Forwards a single batch of audit events from the spool to the delegate
+     *
+     * @return The number of audit events that were forwarded
+     */
+    int forwardBatch() throws IOException, InterruptedException {
+        var records = spool.poll(batchSize, POLL_TIMEOUT);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        var auditEvents = decodeAll(records);
+        if (delegate instanceof BatchAuditEventHandler batchHandler && auditEvents.size() > 1) {
+            batchHandler.handleAll(auditEvents);
+        } else {
+            for (var auditEvent : auditEvents) {
+                delegate.handle(auditEvent);
+            }
+        }
+        spool.commit();
+        spool.flush();
+        return records.size();
+    }
+
+    private List<AbstractAuditEvent> decodeAll(List<byte[]> records) {
+        var auditEvents = new ArrayList<AbstractAuditEvent>(records.size());
+        for (var record : records) {
+            var auditEvent = decode(record);
+            if (auditEvent != null) {
+                auditEvents.add(auditEvent);
+            }
+        }
+        return auditEvents;
+    }
+
+    @Nullable
+    private AbstractAuditEvent decode(byte[] record) {
+        try {
+            return codec.decode(record);
+        } catch (IOException e) {
+            // Retrying can not make this record readable; skip it instead of blocking the spool forever
+            log.error("Skipping unreadable spooled audit event of {} bytes", record.length, e);
+            return null;
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return running;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,195 @@
+package com.contentgrid.spring.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.audit.AsyncAuditProperties.OverflowPolicy;
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.event.BasicAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.BatchAuditEventHandler;
+import com.contentgrid.spring.audit.test.handler.AggregatingAuditHandler;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+
+class AsyncAuditEventDispatcherTest {
+
+    private static AbstractAuditEvent event(int i) {
+        return BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/invoices/" + i)
+                .responseStatus(200)
+                .build();
+    }
+
+    private static AsyncAuditProperties properties(int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        var properties = new AsyncAuditProperties();
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setOverflowPolicy(overflowPolicy);
+        return properties;
+    }
+
+    @Test
+    void batchHandlerReceivesQueuedEventsInBatches() throws Exception {
+        var blocked = new CountDownLatch(1);
+        var batches = new CopyOnWriteArrayList<List<AbstractAuditEvent>>();
+        var batchHandler = new BatchAuditEventHandler() {
+            @Override
+            public void handleAll(List<AbstractAuditEvent> auditEvents) {
+                batches.add(List.copyOf(auditEvents));
+            }
+
+            @Override
+            public void handle(AbstractAuditEvent auditEvent) {
+                awaitUninterruptibly(blocked);
+                batches.add(List.of(auditEvent));
+            }
+        };
+
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(batchHandler),
+                properties(100, 5, OverflowPolicy.BLOCK));
+        // The first event is handled alone and blocks the worker, the others queue up
+        dispatcher.dispatch(event(0));
+        waitUntilQueueIsEmpty(dispatcher);
+        for (int i = 1; i <= 7; i++) {
+            dispatcher.dispatch(event(i));
+        }
+        blocked.countDown();
+        dispatcher.destroy();
+
+        assertThat(batches).map(List::size).containsExactly(1, 5, 2);
+    }
+
+    @Test
+    void failingHandlerDoesNotAffectOtherHandlers() throws Exception {
+        AuditEventHandler failingHandler = auditEvent -> {
+            throw new IllegalStateException("failure");
+        };
+        var aggregatingHandler = new AggregatingAuditHandler();
+
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(failingHandler, aggregatingHandler),
+                properties(100, 10, OverflowPolicy.BLOCK));
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(event(i));
+        }
+        dispatcher.destroy();
+
+        assertThat(aggregatingHandler.getEvents()).hasSize(3);
+    }
+
+    @Test
+    void dropOldest_dropsEventsWhenFull() throws Exception {
+        var blocked = new CountDownLatch(1);
+        var handled = new CopyOnWriteArrayList<AbstractAuditEvent>();
+        AuditEventHandler blockingHandler = auditEvent -> {
+            awaitUninterruptibly(blocked);
+            handled.add(auditEvent);
+        };
+
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(blockingHandler),
+                properties(2, 10, OverflowPolicy.DROP_OLDEST));
+        dispatcher.dispatch(event(0));
+        waitUntilQueueIsEmpty(dispatcher);
+        for (int i = 1; i <= 4; i++) {
+            dispatcher.dispatch(event(i));
+        }
+
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(2);
+        assertThat(dispatcher.getRemainingCapacity()).isZero();
+
+        blocked.countDown();
+        dispatcher.destroy();
+
+        assertThat(handled).containsExactly(event(0), event(3), event(4));
+    }
+
+    @Test
+    void eventsDispatchedAfterShutdown_areHandledOnCallingThread() throws Exception {
+        var aggregatingHandler = new AggregatingAuditHandler();
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(aggregatingHandler),
+                properties(10, 10, OverflowPolicy.BLOCK));
+        dispatcher.destroy();
+
+        dispatcher.dispatch(event(0));
+
+        assertThat(aggregatingHandler.getEvents()).containsExactly(event(0));
+    }
+
+    @Test
+    void blockedDispatch_handlesEventOnCallingThreadAfterShutdown() throws Exception {
+        var blocked = new CountDownLatch(1);
+        var handled = new CopyOnWriteArrayList<AbstractAuditEvent>();
+        AuditEventHandler blockingHandler = auditEvent -> {
+            if (auditEvent.equals(event(0))) {
+                awaitUninterruptibly(blocked);
+            }
+            handled.add(auditEvent);
+        };
+
+        var properties = properties(1, 10, OverflowPolicy.BLOCK);
+        properties.setShutdownTimeout(Duration.ofSeconds(10));
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(blockingHandler), properties);
+        dispatcher.dispatch(event(0));
+        waitUntilQueueIsEmpty(dispatcher);
+        dispatcher.dispatch(event(1));
+
+        // Waits for room in the queue
+        var blockedDispatch = CompletableFuture.runAsync(() -> dispatcher.dispatch(event(2)));
+        var shutdown = CompletableFuture.runAsync(() -> {
+            try {
+                dispatcher.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        blockedDispatch.get(5, TimeUnit.SECONDS);
+        assertThat(handled).containsExactly(event(2));
+
+        blocked.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+        assertThat(handled).containsExactly(event(2), event(0), event(1));
+    }
+
+    @Test
+    void shutsDownWhenContextIsClosed() throws Exception {
+        var handlingThreads = new CopyOnWriteArrayList<String>();
+        AuditEventHandler recordingHandler = auditEvent -> handlingThreads.add(Thread.currentThread().getName());
+        var dispatcher = new AsyncAuditEventDispatcher(List.of(recordingHandler),
+                properties(10, 10, OverflowPolicy.BLOCK));
+        var context = new StaticApplicationContext();
+        dispatcher.setApplicationContext(context);
+
+        // Closing a child context does not shut down the dispatcher
+        dispatcher.onApplicationEvent(new ContextClosedEvent(new StaticApplicationContext(context)));
+        dispatcher.dispatch(event(0));
+
+        dispatcher.onApplicationEvent(new ContextClosedEvent(context));
+        dispatcher.dispatch(event(1));
+
+        assertThat(handlingThreads).hasSize(2);
+        assertThat(handlingThreads.get(0)).startsWith("contentgrid-audit-");
+        assertThat(handlingThreads.get(1)).isEqualTo(Thread.currentThread().getName());
+    }
+
+    private static void waitUntilQueueIsEmpty(AsyncAuditEventDispatcher dispatcher) throws InterruptedException {
+        while (dispatcher.getQueueSize() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
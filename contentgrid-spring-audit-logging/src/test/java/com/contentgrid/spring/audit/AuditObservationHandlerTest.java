@@ -31,7 +31,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -55,6 +57,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.function.HandlerFunction;
 import org.springframework.web.servlet.function.ServerResponse;
@@ -532,6 +535,86 @@ class AuditObservationHandlerTest {
         }
     }
 
+    @Nested
+    class DispatchesToRelevantExtractors {
+
+        static class TestController {
+
+            public void handle() {
+
+            }
+        }
+
+        private static ServerRequestObservationContext createContext() throws NoSuchMethodException {
+            var request = new MockHttpServletRequest("GET", "/test");
+            // A new HandlerMethod is created for every request, like the request mapping does
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                    new HandlerMethod(new TestController(), TestController.class.getMethod("handle")));
+            return new ServerRequestObservationContext(request, new MockHttpServletResponse());
+        }
+
+        @Test
+        void skipsExtractorsThatDoNotApply() throws Exception {
+            var aggregating = new AggregatingAuditHandler();
+            var irrelevantExtractor = new CountingAuditEventExtractor(false, false);
+            var relevantExtractor = new CountingAuditEventExtractor(true, true);
+            var handler = new AuditObservationHandler(
+                    List.of(irrelevantExtractor, relevantExtractor, new BasicAuditEventExtractor()),
+                    List.of(aggregating)
+            );
+
+            handler.onStop(createContext());
+            handler.onStop(createContext());
+
+            assertThat(aggregating.getEvents()).hasSize(2);
+            assertThat(irrelevantExtractor.canCreateEventBuilderCalls).hasValue(1);
+            assertThat(irrelevantExtractor.createEventBuilderCalls).hasValue(0);
+            assertThat(irrelevantExtractor.canEnhanceCalls).hasValue(1);
+            assertThat(irrelevantExtractor.enhanceCalls).hasValue(0);
+            assertThat(relevantExtractor.canCreateEventBuilderCalls).hasValue(1);
+            assertThat(relevantExtractor.createEventBuilderCalls).hasValue(2);
+            assertThat(relevantExtractor.enhanceCalls).hasValue(2);
+        }
+
+        @RequiredArgsConstructor
+        private static class CountingAuditEventExtractor implements AuditEventExtractor {
+
+            private final boolean canCreateEventBuilder;
+            private final boolean canEnhance;
+
+            final AtomicInteger canCreateEventBuilderCalls = new AtomicInteger();
+            final AtomicInteger createEventBuilderCalls = new AtomicInteger();
+            final AtomicInteger canEnhanceCalls = new AtomicInteger();
+            final AtomicInteger enhanceCalls = new AtomicInteger();
+
+            @Override
+            public boolean canCreateEventBuilder(HandlerMethod handlerMethod) {
+                canCreateEventBuilderCalls.incrementAndGet();
+                return canCreateEventBuilder;
+            }
+
+            @Override
+            public Optional<AbstractAuditEventBuilder<?, ?>> createEventBuilder(
+                    ServerRequestObservationContext context) {
+                createEventBuilderCalls.incrementAndGet();
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean canEnhance(Class<?> eventBuilderType) {
+                canEnhanceCalls.incrementAndGet();
+                return canEnhance;
+            }
+
+            @Override
+            public AbstractAuditEventBuilder<?, ?> enhance(ServerRequestObservationContext context,
+                    AbstractAuditEventBuilder<?, ?> eventBuilder) {
+                enhanceCalls.incrementAndGet();
+                return eventBuilder;
+            }
+        }
+    }
+
 
     @ParameterizedTest
     @CsvSource({
@@ -0,0 +1,142 @@
+package com.contentgrid.spring.audit.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.audit.event.BasicAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent.Operation;
+import com.contentgrid.spring.audit.event.EntityRelationItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AuditEventJsonEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AuditEventJsonEncoder encoder = new AuditEventJsonEncoder(
+            Clock.fixed(Instant.parse("2024-05-06T07:08:09.012Z"), ZoneOffset.UTC));
+
+    static class Invoice {
+
+    }
+
+    @Test
+    void encodesBasicEvent() throws Exception {
+        var out = new StringBuilder();
+        encoder.encode(BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/")
+                .responseStatus(200)
+                .build(), out);
+
+        assertThat(objectMapper.readTree(out.toString())).isEqualTo(objectMapper.readTree("""
+                {"type": "BasicAuditEvent", "timestamp": "2024-05-06T07:08:09.012Z", "http.method": "GET",
+                 "http.uri": "/", "http.status": 200}
+                """));
+    }
+
+    @Test
+    void encodesTimeOfEvent() throws Exception {
+        assertThat(encodeTimestamp(Instant.parse("2023-12-31T23:59:59.999999Z"))).isEqualTo("2023-12-31T23:59:59.999Z");
+        // The second changed since the previous event
+        assertThat(encodeTimestamp(Instant.parse("2024-01-01T00:00:00Z"))).isEqualTo("2024-01-01T00:00:00.000Z");
+    }
+
+    private String encodeTimestamp(Instant eventTime) throws Exception {
+        var out = new StringBuilder();
+        encoder.encode(BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/")
+                .responseStatus(200)
+                .eventTime(eventTime)
+                .build(), out);
+        return objectMapper.readTree(out.toString()).path("timestamp").asText();
+    }
+
+    @Test
+    void encodesEntityItemEvent() throws Exception {
+        var out = new StringBuilder();
+        encoder.encode(EntityItemAuditEvent.builder()
+                .requestMethod("POST")
+                .requestUri("/invoices")
+                .responseStatus(201)
+                .responseLocation("/invoices/123")
+                .domainType(Invoice.class)
+                .id("123")
+                .operation(Operation.CREATE)
+                .build(), out);
+
+        assertThat(objectMapper.readTree(out.toString())).isEqualTo(objectMapper.readTree("""
+                {"type": "EntityItemAuditEvent", "timestamp": "2024-05-06T07:08:09.012Z", "http.method": "POST",
+                 "http.uri": "/invoices", "http.status": 201, "responseLocation": "/invoices/123",
+                 "domainType": "Invoice", "id": "123", "operation": "CREATE"}
+                """));
+    }
+
+    @Test
+    void encodesRelationItemEvent() throws Exception {
+        var out = new StringBuilder();
+        encoder.encode(EntityRelationItemAuditEvent.builder()
+                .requestMethod("DELETE")
+                .requestUri("/invoices/123/orders/456")
+                .responseStatus(204)
+                .domainType(Invoice.class)
+                .id("123")
+                .relationName("orders")
+                .relationId("456")
+                .operation(EntityRelationItemAuditEvent.Operation.DELETE)
+                .build(), out);
+
+        assertThat(objectMapper.readTree(out.toString())).isEqualTo(objectMapper.readTree("""
+                {"type": "EntityRelationItemAuditEvent", "timestamp": "2024-05-06T07:08:09.012Z",
+                 "http.method": "DELETE", "http.uri": "/invoices/123/orders/456", "http.status": 204,
+                 "domainType": "Invoice", "id": "123",
+                 "operation": "DELETE", "relation": "orders", "relationId": "456"}
+                """));
+    }
+
+    @Test
+    void escapesValues() throws Exception {
+        var out = new StringBuilder();
+        encoder.encode(EntitySearchAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/invoices")
+                .responseStatus(200)
+                .queryParameters(Map.of("name", List.of("\"quoted\"\n", "back\\slash", "café")))
+                .build(), out);
+
+        var json = out.toString();
+        assertThat(json).doesNotContain("\n").matches("\\p{ASCII}*");
+        assertThat(objectMapper.readTree(json).path("query").path("name")).isEqualTo(
+                objectMapper.valueToTree(List.of("\"quoted\"\n", "back\\slash", "café")));
+        assertThat(objectMapper.readTree(json).path("domainType").isNull()).isTrue();
+    }
+
+    @Test
+    void jsonLinesHandler_writesOneLinePerEvent() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var handler = new JsonLinesAuditHandler(output);
+        var event = BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/")
+                .responseStatus(200)
+                .build();
+
+        handler.handle(event);
+        handler.handle(event);
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        for (var line : lines) {
+            assertThat(objectMapper.readTree(line).path("http.status").asInt()).isEqualTo(200);
+        }
+    }
+}
@@ -14,9 +14,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cloudevents.CloudEvent;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -61,6 +64,71 @@ class AuditEventToCloudEventMessageConverterTest {
         });
     }
 
+    @Test
+    void generatesTimeOrderedIds() {
+        var upstreamConverter = Mockito.mock(MessageConverter.class);
+        var cloudEventCaptor = ArgumentCaptor.forClass(CloudEvent.class);
+
+        Mockito.when(upstreamConverter.toMessage(cloudEventCaptor.capture(), Mockito.any()))
+                .thenReturn(EMPTY_MESSAGE);
+        var handler = new AuditEventToCloudEventMessageConverter(
+                upstreamConverter,
+                new ObjectMapper()::writeValueAsBytes,
+                URI.create("https://contentgrid.com/audit-source")
+        );
+
+        var event = BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/profile/abc")
+                .responseStatus(200)
+                .build();
+
+        var before = System.currentTimeMillis();
+        handler.toMessage(event, new MessageHeaders(null));
+        handler.toMessage(event, new MessageHeaders(null));
+
+        var ids = cloudEventCaptor.getAllValues().stream().map(CloudEvent::getId).map(UUID::fromString).toList();
+        assertThat(ids).hasSize(2).doesNotHaveDuplicates().allSatisfy(id -> {
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+            // The first 48 bits are the unix timestamp in milliseconds
+            assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis());
+        });
+    }
+
+    @Test
+    void usesAssignedEventIdAndTime() {
+        var upstreamConverter = Mockito.mock(MessageConverter.class);
+        var cloudEventCaptor = ArgumentCaptor.forClass(CloudEvent.class);
+
+        Mockito.when(upstreamConverter.toMessage(cloudEventCaptor.capture(), Mockito.any()))
+                .thenReturn(EMPTY_MESSAGE);
+        var handler = new AuditEventToCloudEventMessageConverter(
+                upstreamConverter,
+                new ObjectMapper().registerModule(new Jackson2AuditMessagingModule())::writeValueAsBytes,
+                URI.create("https://contentgrid.com/audit-source")
+        );
+
+        var event = BasicAuditEvent.builder()
+                .requestMethod("GET")
+                .requestUri("/profile/abc")
+                .responseStatus(200)
+                .eventId("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b")
+                .eventTime(Instant.parse("2024-05-06T07:08:09.123Z"))
+                .build();
+
+        handler.toMessage(event, new MessageHeaders(null));
+        handler.toMessage(event, new MessageHeaders(null));
+
+        assertThat(cloudEventCaptor.getAllValues()).hasSize(2).allSatisfy(cloudEvent -> {
+            assertThat(cloudEvent.getId()).isEqualTo("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b");
+            assertThat(cloudEvent.getTime()).isEqualTo(OffsetDateTime.parse("2024-05-06T07:08:09.123Z"));
+            // Metadata of the event, not part of the payload
+            assertThat(new String(cloudEvent.getData().toBytes(), StandardCharsets.UTF_8))
+                    .doesNotContain("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b");
+        });
+    }
+
     @Test
     void publishesItemCreateEvent() {
         var upstreamConverter = Mockito.mock(MessageConverter.class);
@@ -0,0 +1,173 @@
+package com.contentgrid.spring.audit.handler.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditEventSpoolTest {
+
+    private static final Duration NO_WAIT = Duration.ZERO;
+
+    @TempDir
+    Path directory;
+
+    private static byte[] record(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> asStrings(List<byte[]> records) {
+        return records.stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+
+    @Test
+    void pollReturnsAppendedRecordsUntilCommitted() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 1024)) {
+            spool.append(record("a"));
+            spool.append(record("b"));
+            spool.append(record("c"));
+
+            assertThat(asStrings(spool.poll(2, NO_WAIT))).containsExactly("a", "b");
+            // Not committed, so the same records are returned again
+            assertThat(asStrings(spool.poll(2, NO_WAIT))).containsExactly("a", "b");
+
+            spool.commit();
+            assertThat(asStrings(spool.poll(2, NO_WAIT))).containsExactly("c");
+            spool.commit();
+            assertThat(spool.poll(2, NO_WAIT)).isEmpty();
+        }
+    }
+
+    @Test
+    void pollWaitsForAppendedRecord() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 1024)) {
+            var polled = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return spool.poll(10, Duration.ofSeconds(10));
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            spool.append(record("a"));
+
+            assertThat(asStrings(polled.get(5, TimeUnit.SECONDS))).containsExactly("a");
+        }
+    }
+
+    @Test
+    void recordsRollOverToNewSegments() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            for (int i = 0; i < 10; i++) {
+                spool.append(record("record-%02d".formatted(i)));
+            }
+            assertThat(spool.getWriteSegment()).isGreaterThan(0);
+
+            assertThat(asStrings(spool.poll(100, NO_WAIT))).hasSize(10).startsWith("record-00").endsWith("record-09");
+            spool.commit();
+
+            // Completely consumed segments are deleted
+            try (var files = Files.list(directory)) {
+                assertThat(files.filter(file -> file.getFileName().toString().startsWith("segment-"))).hasSize(1);
+            }
+        }
+    }
+
+    @Test
+    void uncommittedRecordsAreReadAfterReopening() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            for (int i = 0; i < 6; i++) {
+                spool.append(record("record-%d".formatted(i)));
+            }
+            assertThat(spool.poll(2, NO_WAIT)).hasSize(2);
+            spool.commit();
+            assertThat(spool.poll(2, NO_WAIT)).hasSize(2);
+        }
+
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            spool.append(record("record-6"));
+
+            assertThat(asStrings(spool.poll(100, NO_WAIT)))
+                    .containsExactly("record-2", "record-3", "record-4", "record-5", "record-6");
+        }
+    }
+
+    @Test
+    void tooLargeRecordIsRejected() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            assertThatThrownBy(() -> spool.append(new byte[64]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void appendAfterCloseIsRejected() throws Exception {
+        var spool = new AuditEventSpool(directory, 64);
+        spool.close();
+
+        assertThatThrownBy(() -> spool.append(record("a")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void directoryInUseIsRejected() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            assertThatThrownBy(() -> new AuditEventSpool(directory, 64))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        // Released when the spool is closed
+        new AuditEventSpool(directory, 64).close();
+    }
+
+    @Test
+    void fullSpoolRejectsRecordsUntilCommitted() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64, 128)) {
+            // 3 records fit in a segment
+            for (int i = 1; i <= 6; i++) {
+                spool.append(record("record-" + i));
+            }
+            assertThatThrownBy(() -> spool.append(record("record-7")))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(spool.poll(10, NO_WAIT)).hasSize(6);
+            spool.commit();
+
+            spool.append(record("record-7"));
+            assertThat(asStrings(spool.poll(10, NO_WAIT))).containsExactly("record-7");
+        }
+    }
+
+    @Test
+    void corruptRecordSkipsRemainderOfSegment() throws Exception {
+        try (var spool = new AuditEventSpool(directory, 64)) {
+            // 3 records fit in a segment
+            for (int i = 0; i < 6; i++) {
+                spool.append(record("record-%d".formatted(i)));
+            }
+
+            // Overwrite the second record of the first segment, after its length and checksum
+            try (var channel = FileChannel.open(directory.resolve("segment-%020d.log".formatted(0)),
+                    StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(record("X")), 16 + 8);
+            }
+
+            assertThat(asStrings(spool.poll(10, NO_WAIT)))
+                    .containsExactly("record-0", "record-3", "record-4", "record-5");
+            spool.commit();
+            assertThat(spool.poll(10, NO_WAIT)).isEmpty();
+        }
+    }
+}
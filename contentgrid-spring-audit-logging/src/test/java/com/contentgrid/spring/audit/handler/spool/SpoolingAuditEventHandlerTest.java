@@ -0,0 +1,194 @@
+package com.contentgrid.spring.audit.handler.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.event.AbstractEntityRelationAuditEvent;
+import com.contentgrid.spring.audit.event.BasicAuditEvent;
+import com.contentgrid.spring.audit.event.EntityContentAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityRelationAuditEvent;
+import com.contentgrid.spring.audit.event.EntityRelationItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpoolingAuditEventHandlerTest {
+
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * Assigned when the event is spooled
+     */
+    private static final String[] EVENT_METADATA = {"eventId", "eventTime"};
+
+    @TempDir
+    Path directory;
+
+    static class Invoice {
+
+    }
+
+    static List<AbstractAuditEvent> allEventTypes() {
+        return List.of(
+                BasicAuditEvent.builder()
+                        .requestMethod("GET")
+                        .requestUri("/profile")
+                        .responseStatus(200)
+                        .build(),
+                EntityItemAuditEvent.builder()
+                        .requestMethod("POST")
+                        .requestUri("/invoices")
+                        .responseStatus(201)
+                        .responseLocation("/invoices/123")
+                        .domainType(Invoice.class)
+                        .id("123")
+                        .operation(EntityItemAuditEvent.Operation.CREATE)
+                        .build(),
+                EntitySearchAuditEvent.builder()
+                        .requestMethod("GET")
+                        .requestUri("/invoices?number=1&number=2&page=0")
+                        .responseStatus(200)
+                        .domainType(Invoice.class)
+                        .queryParameters(Map.of("number", List.of("1", "2")))
+                        .build(),
+                EntityRelationAuditEvent.builder()
+                        .requestMethod("PUT")
+                        .requestUri("/invoices/123/customer")
+                        .responseStatus(204)
+                        .domainType(Invoice.class)
+                        .id("123")
+                        .relationName("customer")
+                        .operation(AbstractEntityRelationAuditEvent.Operation.UPDATE)
+                        .build(),
+                EntityRelationItemAuditEvent.builder()
+                        .requestMethod("DELETE")
+                        .requestUri("/invoices/123/orders/456")
+                        .responseStatus(204)
+                        .domainType(Invoice.class)
+                        .id("123")
+                        .relationName("orders")
+                        .relationId("456")
+                        .operation(AbstractEntityRelationAuditEvent.Operation.DELETE)
+                        .build(),
+                EntityContentAuditEvent.builder()
+                        .requestMethod("GET")
+                        .requestUri("/invoices/123/attachment")
+                        .responseStatus(200)
+                        .domainType(Invoice.class)
+                        .id("123")
+                        .contentName("attachment")
+                        .operation(EntityContentAuditEvent.Operation.READ)
+                        .build()
+        );
+    }
+
+    @Test
+    void allEventTypesAreEncodedAndDecoded() throws Exception {
+        var codec = new AuditEventSpoolCodec(getClass().getClassLoader());
+
+        for (var auditEvent : allEventTypes()) {
+            assertThat(codec.decode(codec.encode(auditEvent)))
+                    .usingRecursiveComparison()
+                    .ignoringFields(EVENT_METADATA)
+                    .isEqualTo(auditEvent);
+        }
+    }
+
+    @Test
+    void encodingAssignsEventIdAndTime() throws Exception {
+        var codec = new AuditEventSpoolCodec(getClass().getClassLoader());
+        var before = Instant.now();
+
+        var decoded = codec.decode(codec.encode(allEventTypes().get(0)));
+        assertThat(decoded.getEventId()).isNotNull();
+        assertThat(decoded.getEventTime()).isBetween(before, Instant.now());
+
+        // Assigned only once, so a redelivered event keeps its id and time
+        assertThat(codec.decode(codec.encode(decoded))).isEqualTo(decoded);
+    }
+
+    @Test
+    void spooledEventsAreForwardedToDelegate() throws Exception {
+        var received = new CopyOnWriteArrayList<AbstractAuditEvent>();
+        var handler = new SpoolingAuditEventHandler(new AuditEventSpool(directory, 4096), received::add, 10,
+                RETRY_INTERVAL, RETRY_INTERVAL);
+        try {
+            allEventTypes().forEach(handler::handle);
+            // Nothing is forwarded before the handler is started
+            assertThat(received).isEmpty();
+
+            assertThat(handler.forwardBatch()).isEqualTo(6);
+            assertThat(received)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields(EVENT_METADATA)
+                    .containsExactlyElementsOf(allEventTypes());
+            assertThat(handler.forwardBatch()).isZero();
+        } finally {
+            handler.destroy();
+        }
+    }
+
+    @Test
+    void failedBatchIsRetried() throws Exception {
+        var attempts = new AtomicInteger();
+        var attemptedIds = new CopyOnWriteArrayList<String>();
+        var received = new CopyOnWriteArrayList<AbstractAuditEvent>();
+        AuditEventHandler unreliableHandler = auditEvent -> {
+            attemptedIds.add(auditEvent.getEventId());
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+            received.add(auditEvent);
+        };
+
+        var handler = new SpoolingAuditEventHandler(new AuditEventSpool(directory, 4096), unreliableHandler, 10,
+                RETRY_INTERVAL, RETRY_INTERVAL);
+        try {
+            handler.start();
+            var auditEvent = allEventTypes().get(0);
+            handler.handle(auditEvent);
+
+            var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (received.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(received)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields(EVENT_METADATA)
+                    .containsExactly(auditEvent);
+            assertThat(attempts).hasValue(3);
+            // Every attempt delivers the same event id
+            assertThat(attemptedIds).hasSize(3).doesNotContainNull().containsOnly(attemptedIds.get(0));
+        } finally {
+            handler.destroy();
+        }
+        assertThat(handler.isRunning()).isFalse();
+    }
+
+    @Test
+    void spooledEventsAreForwardedAfterRestart() throws Exception {
+        var first = new SpoolingAuditEventHandler(new AuditEventSpool(directory, 4096), auditEvent -> {
+        }, 10, RETRY_INTERVAL, RETRY_INTERVAL);
+        allEventTypes().forEach(first::handle);
+        first.destroy();
+
+        var received = new CopyOnWriteArrayList<AbstractAuditEvent>();
+        var second = new SpoolingAuditEventHandler(new AuditEventSpool(directory, 4096), received::add, 10,
+                RETRY_INTERVAL, RETRY_INTERVAL);
+        try {
+            second.forwardBatch();
+            assertThat(received)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields(EVENT_METADATA)
+                    .containsExactlyElementsOf(allEventTypes());
+        } finally {
+            second.destroy();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.benchmarks.model.Case;
+import com.contentgrid.spring.benchmarks.model.Evidence;
+import com.contentgrid.spring.benchmarks.model.Person;
+import com.contentgrid.spring.benchmarks.repository.CaseRepository;
+import com.contentgrid.spring.benchmarks.repository.EvidenceRepository;
+import com.contentgrid.spring.benchmarks.repository.PersonRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the {@link BenchmarkApplication} with a small dataset, shared by all benchmarks of a trial
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+
+    private Case sampleCase;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0")
+                .run();
+
+        var persons = getBean(PersonRepository.class).saveAll(IntStream.range(0, 10)
+                .mapToObj(i -> {
+                    var person = new Person();
+                    person.setName("Person %d".formatted(i));
+                    person.setNotes("Notes about person %d".formatted(i));
+                    return person;
+                })
+                .toList());
+
+        var evidence = getBean(EvidenceRepository.class).saveAll(IntStream.range(0, 20)
+                .mapToObj(i -> {
+                    var item = new Evidence();
+                    item.setName("Evidence %d".formatted(i));
+                    item.setDescription("Description of evidence %d".formatted(i));
+                    item.setCollectedAt(Instant.parse("2024-01-01T00:00:00Z").plus(i, ChronoUnit.DAYS));
+                    return item;
+                })
+                .toList());
+
+        var cases = getBean(CaseRepository.class).saveAll(IntStream.range(0, 50)
+                .mapToObj(i -> {
+                    var item = new Case();
+                    item.setName("Case %d".formatted(i));
+                    item.setDescription("Description of case %d".formatted(i));
+                    item.setClosed(i % 3 == 0);
+                    item.setLeadDetective(persons.get(i % persons.size()));
+                    item.setSuspects(List.of(persons.get((i + 1) % persons.size()),
+                            persons.get((i + 2) % persons.size())));
+                    item.setHasEvidence(List.of(evidence.get(i % evidence.size())));
+                    return item;
+                })
+                .toList());
+
+        sampleCase = cases.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * A case with a lead detective, suspects and evidence
+     */
+    public Case getSampleCase() {
+        return sampleCase;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T getBean(String name, Class<T> type) {
+        return context.getBean(name, type);
+    }
+
+    public <T> T getOrderedBean(Class<T> type) {
+        return context.getBeanProvider(type).orderedStream().findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.audit.event.AbstractAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent;
+import com.contentgrid.spring.audit.event.EntityItemAuditEvent.Operation;
+import com.contentgrid.spring.audit.event.EntitySearchAuditEvent;
+import com.contentgrid.spring.audit.handler.AuditEventJsonEncoder;
+import com.contentgrid.spring.audit.handler.JsonLinesAuditHandler;
+import com.contentgrid.spring.audit.handler.LoggingAuditHandler;
+import com.contentgrid.spring.benchmarks.model.Case;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Writing an audit event to the log, compared to encoding it as a JSON line into reused buffers.
+ * <p>
+ * Run with {@code -PjmhProfilers=gc} to compare the allocation rate ({@code gc.alloc.rate.norm}) per event. The
+ * {@link LoggingAuditHandler} benchmark goes through the configured logging backend.
+ */
+@State(Scope.Benchmark)
+public class AuditLoggingBenchmark {
+
+    @Param({"search", "item"})
+    public String operation;
+
+    private AbstractAuditEvent event;
+
+    private LoggingAuditHandler loggingAuditHandler;
+
+    private JsonLinesAuditHandler jsonLinesAuditHandler;
+
+    private AuditEventJsonEncoder encoder;
+
+    private StringBuilder buffer;
+
+    @Setup
+    public void setup() {
+        event = switch (operation) {
+            case "search" -> EntitySearchAuditEvent.builder()
+                    .requestMethod("GET")
+                    .requestUri("/cases")
+                    .responseStatus(200)
+                    .domainType(Case.class)
+                    .queryParameters(Map.of("name~", List.of("Case"), "closed", List.of("false")))
+                    .build();
+            case "item" -> EntityItemAuditEvent.builder()
+                    .requestMethod("GET")
+                    .requestUri("/cases/0b2b5f2e-5e0c-4d4e-9a53-2f0a8f3c4d11")
+                    .responseStatus(200)
+                    .domainType(Case.class)
+                    .id("0b2b5f2e-5e0c-4d4e-9a53-2f0a8f3c4d11")
+                    .operation(Operation.READ)
+                    .build();
+            default -> throw new IllegalArgumentException(operation);
+        };
+        loggingAuditHandler = new LoggingAuditHandler();
+        jsonLinesAuditHandler = new JsonLinesAuditHandler(OutputStream.nullOutputStream());
+        encoder = new AuditEventJsonEncoder();
+        buffer = new StringBuilder(512);
+    }
+
+    @Benchmark
+    public void logMessage() {
+        loggingAuditHandler.handle(event);
+    }
+
+    @Benchmark
+    public void jsonLine() {
+        jsonLinesAuditHandler.handle(event);
+    }
+
+    @Benchmark
+    public int encodeJson() {
+        buffer.setLength(0);
+        encoder.encode(event, buffer);
+        return buffer.length();
+    }
+}
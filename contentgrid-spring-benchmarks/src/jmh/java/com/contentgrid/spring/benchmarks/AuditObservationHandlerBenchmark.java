@@ -0,0 +1,69 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.audit.AuditObservationHandler;
+import java.util.Arrays;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.rest.webmvc.RepositoryEntityController;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Creating and dispatching an audit event when a request completes
+ */
+@State(Scope.Benchmark)
+public class AuditObservationHandlerBenchmark {
+
+    @Param({"search", "item"})
+    public String operation;
+
+    private AuditObservationHandler handler;
+
+    private ServerRequestObservationContext context;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        handler = application.getBean(AuditObservationHandler.class);
+
+        var caseId = application.getSampleCase().getId().toString();
+        var request = switch (operation) {
+            case "search" -> {
+                var searchRequest = new MockHttpServletRequest("GET", "/cases");
+                searchRequest.setParameter("name~", "Case");
+                searchRequest.setParameter("closed", "false");
+                searchRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                        Map.of("repository", "cases"));
+                yield searchRequest;
+            }
+            case "item" -> {
+                var itemRequest = new MockHttpServletRequest("GET", "/cases/" + caseId);
+                itemRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                        Map.of("repository", "cases", "id", caseId));
+                yield itemRequest;
+            }
+            default -> throw new IllegalArgumentException(operation);
+        };
+
+        var handlerMethodName = operation.equals("search") ? "getCollectionResource" : "getItemResource";
+        var controllerMethod = Arrays.stream(RepositoryEntityController.class.getMethods())
+                .filter(method -> method.getName().equals(handlerMethodName))
+                .findFirst()
+                .orElseThrow();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(application.getBean(RepositoryEntityController.class), controllerMethod));
+
+        context = new ServerRequestObservationContext(request, new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public void onStop() {
+        handler.onStop(context);
+    }
+}
@@ -0,0 +1,72 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.benchmarks.model.Case;
+import com.contentgrid.spring.integration.events.ChangeEventPayloadSerializer;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.integration.dsl.Transformers;
+import org.springframework.integration.json.ObjectToJsonTransformer;
+import org.springframework.integration.support.json.Jackson2JsonObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Turning an entity change event into a message body: serializing the rendered payload to a {@link String} (as
+ * {@link Transformers#toJson} does) and encoding that, compared to serializing it straight to bytes
+ */
+@State(Scope.Benchmark)
+public class ChangeEventSerializationBenchmark {
+
+    @Param({"CREATE", "UPDATE"})
+    public ChangeKind trigger;
+
+    private EntityChangeEventTransformer transformer;
+
+    private ObjectToJsonTransformer toJsonTransformer;
+
+    private ChangeEventPayloadSerializer payloadSerializer;
+
+    private Message<EntityChangeEvent> message;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        transformer = application.getBean(EntityChangeEventTransformer.class);
+
+        var halObjectMapper = application.getBean("halJacksonHttpMessageConverter",
+                TypeConstrainedMappingJackson2HttpMessageConverter.class).getObjectMapper();
+        toJsonTransformer = Transformers.toJson(new Jackson2JsonObjectMapper(halObjectMapper),
+                MediaTypes.HAL_JSON_VALUE);
+        payloadSerializer = new ChangeEventPayloadSerializer(halObjectMapper, true);
+
+        var entity = application.getSampleCase();
+        var event = EntityChangeEvent.builder()
+                .trigger(trigger)
+                .domainType(Case.class)
+                .newEntity(entity);
+        if (trigger == ChangeKind.UPDATE) {
+            event.oldEntity(entity);
+        }
+        message = MessageBuilder.withPayload(event.build()).build();
+    }
+
+    @Benchmark
+    public byte[] serializeToString(RequestState request) {
+        var json = toJsonTransformer.transform(transformer.transform(message));
+        // The AMQP message converter encodes String payloads
+        return ((String) json.getPayload()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes(RequestState request) {
+        return (byte[]) payloadSerializer.transform(transformer.transform(message)).getPayload();
+    }
+}
@@ -0,0 +1,55 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.benchmarks.model.Case;
+import com.contentgrid.spring.querydsl.converter.CollectionFilterQuerydslPredicateConverter;
+import com.contentgrid.spring.querydsl.mapping.CollectionFiltersMapping;
+import com.querydsl.core.types.Predicate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * Converting the query parameters of a collection request to a querydsl predicate
+ */
+@State(Scope.Benchmark)
+public class CollectionFilterPredicateBenchmark {
+
+    private static final Map<String, Map<String, List<String>>> PARAMETERS = Map.of(
+            "none", Map.of("page", List.of("1"), "size", List.of("20")),
+            "single", Map.of("name", List.of("Case 1")),
+            "relation", Map.of("lead_detective.name", List.of("Person 1")),
+            "multiple", Map.of(
+                    "name~", List.of("Case"),
+                    "closed", List.of("false"),
+                    "suspects.name", List.of("Person 2", "Person 3"),
+                    "sort", List.of("name,asc")
+            )
+    );
+
+    @Param({"none", "single", "relation", "multiple"})
+    public String filters;
+
+    private CollectionFilterQuerydslPredicateConverter converter;
+
+    private Map<String, List<String>> parameters;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        converter = new CollectionFilterQuerydslPredicateConverter(
+                application.getBean(CollectionFiltersMapping.class),
+                application.getBean("defaultConversionService", ConversionService.class)
+        );
+        parameters = PARAMETERS.get(filters);
+    }
+
+    @Benchmark
+    public Optional<Predicate> getPredicate() {
+        return converter.getPredicate(Case.class, parameters);
+    }
+}
@@ -0,0 +1,52 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.data.querydsl.sort.CollectionFilterSortHandlerMethodArgumentResolver;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.webmvc.RepositoryEntityController;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Resolving the sort parameters of a collection request to querydsl order specifiers
+ */
+@State(Scope.Benchmark)
+public class CollectionFilterSortBenchmark {
+
+    @Param({"name,asc", "name,desc&sort=closed,asc"})
+    public String sort;
+
+    private CollectionFilterSortHandlerMethodArgumentResolver resolver;
+
+    private MethodParameter sortParameter;
+
+    private NativeWebRequest webRequest;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        resolver = application.getOrderedBean(CollectionFilterSortHandlerMethodArgumentResolver.class);
+
+        var collectionMethod = Arrays.stream(RepositoryEntityController.class.getMethods())
+                .filter(method -> method.getName().equals("getCollectionResource"))
+                .findFirst()
+                .orElseThrow();
+        var sortIndex = Arrays.asList(collectionMethod.getParameterTypes()).indexOf(Sort.class);
+        sortParameter = new MethodParameter(collectionMethod, sortIndex);
+
+        var request = new MockHttpServletRequest("GET", "/cases");
+        request.setParameter("sort", sort.split("&sort="));
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Sort resolveArgument() {
+        return resolver.resolveArgument(sortParameter, null, webRequest, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.data.pagination.KeysetPageRequest;
+import com.contentgrid.spring.data.pagination.KeysetPageRequest.Keyset;
+import com.contentgrid.spring.data.pagination.cursor.CursorCodec;
+import com.contentgrid.spring.data.pagination.cursor.CursorCodec.CursorContext;
+import com.contentgrid.spring.data.pagination.cursor.CursorCodec.CursorDecodeException;
+import com.contentgrid.spring.data.pagination.cursor.KeysetCursorCodec;
+import com.contentgrid.spring.data.pagination.cursor.RequestIntegrityCheckCursorCodec;
+import com.contentgrid.spring.data.pagination.cursor.SimplePageBasedCursorCodec;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Encoding and decoding of pagination cursors, including the request integrity check
+ */
+@State(Scope.Benchmark)
+public class CursorCodecBenchmark {
+
+    private static final Sort SORT = Sort.by("name").ascending().and(Sort.by("closed").descending());
+
+    private static final UriComponents URI_COMPONENTS = UriComponentsBuilder
+            .fromUriString("https://benchmark.example/cases?name~=Case&closed=false&sort=name,asc&sort=closed,desc")
+            .build();
+
+    @Param({"page", "keyset"})
+    public String codecType;
+
+    private CursorCodec codec;
+
+    private Pageable pageable;
+
+    private CursorContext cursor;
+
+    @Setup
+    public void setup() {
+        switch (codecType) {
+            case "page" -> {
+                codec = new RequestIntegrityCheckCursorCodec(new SimplePageBasedCursorCodec());
+                pageable = PageRequest.of(12, 20, SORT);
+            }
+            case "keyset" -> {
+                codec = new RequestIntegrityCheckCursorCodec(new KeysetCursorCodec());
+                pageable = new KeysetPageRequest(12, 20, SORT,
+                        Keyset.after(List.of("Case 240", false, UUID.randomUUID())));
+            }
+            default -> throw new IllegalArgumentException(codecType);
+        }
+        cursor = codec.encodeCursor(pageable, URI_COMPONENTS);
+    }
+
+    @Benchmark
+    public CursorContext encode() {
+        return codec.encodeCursor(pageable, URI_COMPONENTS);
+    }
+
+    @Benchmark
+    public Pageable decode() throws CursorDecodeException {
+        return codec.decodeCursor(cursor, URI_COMPONENTS);
+    }
+}
@@ -0,0 +1,47 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer;
+import com.contentgrid.spring.benchmarks.model.Case;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Rendering an entity change event to its HAL payload, as done for every changed entity
+ */
+@State(Scope.Benchmark)
+public class EntityChangeEventTransformerBenchmark {
+
+    @Param({"CREATE", "UPDATE"})
+    public ChangeKind trigger;
+
+    private EntityChangeEventTransformer transformer;
+
+    private Message<EntityChangeEvent> message;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        transformer = application.getBean(EntityChangeEventTransformer.class);
+
+        var entity = application.getSampleCase();
+        var event = EntityChangeEvent.builder()
+                .trigger(trigger)
+                .domainType(Case.class)
+                .newEntity(entity);
+        if (trigger == ChangeKind.UPDATE) {
+            event.oldEntity(entity);
+        }
+        message = MessageBuilder.withPayload(event.build()).build();
+    }
+
+    @Benchmark
+    public Message<?> transformPayload(RequestState request) {
+        return transformer.transform(message);
+    }
+}
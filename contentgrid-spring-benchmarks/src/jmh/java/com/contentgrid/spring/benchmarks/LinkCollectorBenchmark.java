@@ -0,0 +1,42 @@
+package com.contentgrid.spring.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.DefaultLinkCollector;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.hateoas.Links;
+
+/**
+ * Collecting the links of an entity with the ContentGrid link collectors, as done for every rendered entity
+ */
+@State(Scope.Benchmark)
+public class LinkCollectorBenchmark {
+
+    private LinkCollector linkCollector;
+
+    private Object entity;
+
+    @Setup
+    public void setup(ApplicationState application) {
+        var defaultLinkCollector = new DefaultLinkCollector(
+                application.getBean(PersistentEntities.class),
+                application.getBean(SelfLinkProvider.class),
+                application.getBean(Associations.class)
+        );
+        // The aggregate link collector is package-private; it is created by this configurer
+        linkCollector = application.getBean("contentGridLinkCollectorConfigurer", RepositoryRestConfigurer.class)
+                .customizeLinkCollector(defaultLinkCollector);
+        entity = application.getSampleCase();
+    }
+
+    @Benchmark
+    public Links getLinksFor(RequestState request) {
+        return linkCollector.getLinksFor(entity);
+    }
+}
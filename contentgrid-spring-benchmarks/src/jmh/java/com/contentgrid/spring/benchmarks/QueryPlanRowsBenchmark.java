@@ -0,0 +1,63 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.data.pagination.jpa.strategy.QueryPlanRows;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Extracting the estimated row count from an {@code EXPLAIN (FORMAT JSON)} plan, comparing streaming with
+ * {@link QueryPlanRows} against deserializing the plan with an {@link ObjectMapper}
+ */
+@State(Scope.Benchmark)
+public class QueryPlanRowsBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String queryPlan;
+
+    @Setup
+    public void setup() throws IOException {
+        try (var input = Objects.requireNonNull(getClass().getResourceAsStream("/explain-plan.json"))) {
+            queryPlan = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public OptionalLong streaming() throws IOException {
+        return QueryPlanRows.extract(queryPlan);
+    }
+
+    @Benchmark
+    public long objectMapper() throws IOException {
+        var plan = objectMapper.readValue(queryPlan, new TypeReference<List<RootQueryPlan>>() {
+        });
+        return plan.get(0).plan().planRows();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record RootQueryPlan(
+            @JsonProperty("Plan")
+            QueryPlan plan
+    ) {
+
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record QueryPlan(
+            @JsonProperty("Plan Rows")
+            long planRows
+    ) {
+
+    }
+}
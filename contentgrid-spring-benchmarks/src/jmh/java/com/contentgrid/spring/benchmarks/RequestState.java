@@ -0,0 +1,29 @@
+package com.contentgrid.spring.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Binds a request to the benchmark thread, so links are built the same way as while handling a request
+ */
+@State(Scope.Thread)
+public class RequestState {
+
+    @Setup(Level.Trial)
+    public void bindRequest() {
+        var request = new MockHttpServletRequest("GET", "/cases");
+        request.setServerName("benchmark.example");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Trial)
+    public void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
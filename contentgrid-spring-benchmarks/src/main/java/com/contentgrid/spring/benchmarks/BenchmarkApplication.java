@@ -0,0 +1,27 @@
+package com.contentgrid.spring.benchmarks;
+
+import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Application with an in-memory H2 datamodel, modeled after the integration tests application
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(BenchmarkApplication.class, args);
+    }
+
+    /**
+     * Audit events are discarded, so audit benchmarks measure event creation and not the logging backend
+     */
+    @Bean
+    AuditEventHandler discardingAuditEventHandler() {
+        return auditEvent -> {
+        };
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.contentgrid.spring.benchmarks.model;
+
+import com.contentgrid.spring.querydsl.annotation.CollectionFilterParam;
+import com.contentgrid.spring.querydsl.predicate.EqualsIgnoreCase;
+import com.contentgrid.spring.querydsl.predicate.Text.StartsWithIgnoreCase;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+public class Case {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID id;
+
+    @CollectionFilterParam(predicate = EqualsIgnoreCase.class)
+    @CollectionFilterParam(value = "name~", predicate = StartsWithIgnoreCase.class)
+    private String name;
+
+    private String description;
+
+    @CollectionFilterParam
+    private boolean closed;
+
+    @ManyToMany
+    @JoinTable(name = "case__suspects", joinColumns = @JoinColumn(name = "case_id"), inverseJoinColumns = @JoinColumn(name = "person_id"))
+    @JsonIgnore
+    @CollectionFilterParam
+    private List<Person> suspects = new ArrayList<>();
+
+    @ManyToOne
+    @JoinColumn(name = "lead_detective")
+    @JsonProperty("lead_detective")
+    @RestResource(rel = "lead_detective", path = "lead-detective")
+    @CollectionFilterParam("lead_detective")
+    private Person leadDetective;
+
+    @OneToMany
+    @JoinColumn(name = "_case_id__has_evidence")
+    @JsonIgnore
+    @RestResource(rel = "has_evidence", path = "has-evidence")
+    private List<Evidence> hasEvidence = new ArrayList<>();
+}
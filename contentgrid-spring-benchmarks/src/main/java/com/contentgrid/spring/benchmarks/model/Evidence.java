@@ -0,0 +1,39 @@
+package com.contentgrid.spring.benchmarks.model;
+
+import com.contentgrid.spring.querydsl.annotation.CollectionFilterParam;
+import com.contentgrid.spring.querydsl.predicate.EqualsIgnoreCase;
+import com.contentgrid.spring.querydsl.predicate.Ordered.GreaterThan;
+import com.contentgrid.spring.querydsl.predicate.Ordered.LessThan;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+public class Evidence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID id;
+
+    @CollectionFilterParam(predicate = EqualsIgnoreCase.class)
+    private String name;
+
+    private String description;
+
+    @CollectionFilterParam
+    @CollectionFilterParam(value = "collected_at~before", predicate = LessThan.class)
+    @CollectionFilterParam(value = "collected_at~after", predicate = GreaterThan.class)
+    @JsonProperty("collected_at")
+    private Instant collectedAt;
+}
@@ -0,0 +1,32 @@
+package com.contentgrid.spring.benchmarks.model;
+
+import com.contentgrid.spring.querydsl.annotation.CollectionFilterParam;
+import com.contentgrid.spring.querydsl.predicate.EqualsIgnoreCase;
+import com.contentgrid.spring.querydsl.predicate.Text.StartsWithIgnoreCase;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+public class Person {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID id;
+
+    @CollectionFilterParam(predicate = EqualsIgnoreCase.class)
+    @CollectionFilterParam(value = "name~", predicate = StartsWithIgnoreCase.class)
+    private String name;
+
+    private String notes;
+}
@@ -0,0 +1,12 @@
+package com.contentgrid.spring.benchmarks.repository;
+
+import com.contentgrid.spring.benchmarks.model.Person;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource
+public interface PersonRepository extends JpaRepository<Person, UUID>, QuerydslPredicateExecutor<Person> {
+
+}
@@ -1,9 +1,18 @@
 package com.contentgrid.spring.boot.autoconfigure.audit;
 
+import com.contentgrid.spring.audit.AsyncAuditEventDispatcher;
+import com.contentgrid.spring.audit.AsyncAuditProperties;
+import com.contentgrid.spring.audit.AuditLogProperties;
 import com.contentgrid.spring.audit.ContentGridAuditEventConfiguration;
 import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.JsonLinesAuditHandler;
 import com.contentgrid.spring.audit.handler.LoggingAuditHandler;
 import com.contentgrid.spring.boot.autoconfigure.data.web.ContentGridSpringDataRestAutoConfiguration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -12,8 +21,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.boot.autoconfigure.data.rest.RepositoryRestMvcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
 
@@ -31,13 +42,74 @@ import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguratio
 @Import(ContentGridAuditEventConfiguration.class)
 public class ContentGridAuditLoggingAutoConfiguration {
 
+    @Bean
+    @ConfigurationProperties(prefix = "contentgrid.audit.log")
+    AuditLogProperties contentGridAuditLogProperties() {
+        return new AuditLogProperties();
+    }
+
     @Conditional(LoggingAuditHandlerCondition.class)
+    @ConditionalOnProperty(value = "contentgrid.audit.log.format", havingValue = "text", matchIfMissing = true)
     @Bean
     LoggingAuditHandler loggingAuditHandler() {
         return new LoggingAuditHandler();
     }
 
-    // Conditions when LoggingAuditHandler is enabled:
+    @Conditional(LoggingAuditHandlerCondition.class)
+    @ConditionalOnProperty(value = "contentgrid.audit.log.format", havingValue = "json")
+    @Bean
+    JsonLinesAuditHandler jsonLinesAuditHandler(AuditLogProperties properties) {
+        // Written directly to the stream, not through the logging system
+        var stream = switch (properties.getTarget()) {
+            case STDOUT -> System.out;
+            case STDERR -> System.err;
+        };
+        return new JsonLinesAuditHandler(stream);
+    }
+
+    @ConditionalOnProperty(value = "contentgrid.audit.async.enabled", havingValue = "true")
+    @Configuration(proxyBeanMethods = false)
+    static class AsyncAuditAutoConfiguration {
+
+        @Bean
+        @ConfigurationProperties(prefix = "contentgrid.audit.async")
+        AsyncAuditProperties contentGridAsyncAuditProperties() {
+            return new AsyncAuditProperties();
+        }
+
+        @Bean
+        AsyncAuditEventDispatcher contentGridAsyncAuditEventDispatcher(List<AuditEventHandler> auditEventHandlers,
+                AsyncAuditProperties properties) {
+            return new AsyncAuditEventDispatcher(auditEventHandlers, properties);
+        }
+
+        @ConditionalOnClass(MeterBinder.class)
+        @Configuration(proxyBeanMethods = false)
+        static class AsyncAuditMetricsConfiguration {
+
+            @Bean
+            MeterBinder contentGridAsyncAuditEventDispatcherMetrics(AsyncAuditEventDispatcher dispatcher) {
+                return registry -> bindDispatcherMetrics(dispatcher, registry);
+            }
+
+            private static void bindDispatcherMetrics(AsyncAuditEventDispatcher dispatcher, MeterRegistry registry) {
+                Gauge.builder("contentgrid.audit.queue.size", dispatcher, AsyncAuditEventDispatcher::getQueueSize)
+                        .description("Number of audit events waiting to be handled")
+                        .register(registry);
+                Gauge.builder("contentgrid.audit.queue.remaining", dispatcher,
+                                AsyncAuditEventDispatcher::getRemainingCapacity)
+                        .description("Number of audit events that can be queued before the overflow policy applies")
+                        .register(registry);
+                FunctionCounter.builder("contentgrid.audit.dropped", dispatcher,
+                                AsyncAuditEventDispatcher::getDroppedCount)
+                        .description("Number of audit events dropped because the queue was full")
+                        .register(registry);
+            }
+        }
+    }
+
+    // Conditions when LoggingAuditHandler (or JsonLinesAuditHandler with contentgrid.audit.log.format = json)
+    // is enabled:
     // - contentgrid.audit.log.enabled = true
     // - No other LoggingAuditHandler and contentgrid.audit.log.enabled != false
 
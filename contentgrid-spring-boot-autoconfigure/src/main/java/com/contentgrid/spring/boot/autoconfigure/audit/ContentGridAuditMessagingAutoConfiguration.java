@@ -5,6 +5,9 @@ import com.contentgrid.spring.audit.handler.messaging.AuditEventMessageConverter
 import com.contentgrid.spring.audit.handler.messaging.AuditEventToCloudEventMessageConverter;
 import com.contentgrid.spring.audit.handler.messaging.Jackson2AuditMessagingModule;
 import com.contentgrid.spring.audit.handler.messaging.MessageSendingAuditHandler;
+import com.contentgrid.spring.audit.handler.messaging.MessageSendingAuditHandler.BatchScope;
+import com.contentgrid.spring.audit.handler.spool.AuditEventSpool;
+import com.contentgrid.spring.audit.handler.spool.SpoolingAuditEventHandler;
 import com.contentgrid.spring.common.ContentGridApplicationProperties;
 import com.contentgrid.spring.boot.autoconfigure.audit.ContentGridAuditMessagingAutoConfiguration.ContentGridAuditMessagingProperties;
 import com.contentgrid.spring.boot.autoconfigure.messaging.ContentGridMessaging;
@@ -12,23 +15,31 @@ import com.contentgrid.spring.boot.autoconfigure.messaging.ContentGridMessagingA
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.spring.messaging.CloudEventMessageConverter;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Properties;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitMessagingTemplate;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.core.MessageSendingOperations;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.PropertyPlaceholderHelper;
 import org.springframework.util.SystemPropertyUtils;
+import org.springframework.util.unit.DataSize;
 
 @AutoConfiguration(
         after = ContentGridMessagingAutoConfiguration.class,
@@ -44,6 +55,9 @@ public class ContentGridAuditMessagingAutoConfiguration {
 
     public static final String CONTENTGRID_AUDIT_MESSAGING = "contentgrid.audit.messaging";
 
+    private static final String RABBIT_MESSAGING_TEMPLATE =
+            "org.springframework.amqp.rabbit.core.RabbitMessagingTemplate";
+
     private static final PropertyPlaceholderHelper PROPERTY_PLACEHOLDER_HELPER = new PropertyPlaceholderHelper(
             SystemPropertyUtils.PLACEHOLDER_PREFIX,
             SystemPropertyUtils.PLACEHOLDER_SUFFIX
@@ -51,13 +65,57 @@ public class ContentGridAuditMessagingAutoConfiguration {
 
     @Bean
     @ConditionalOnProperty(prefix = CONTENTGRID_AUDIT_MESSAGING, name = "destination")
+    @ConditionalOnMissingBean(SpoolingAuditEventHandler.class)
     MessageSendingAuditHandler messageSendingAuditHandler(
             @ContentGridMessaging MessageSendingOperations<String> sendingOperations,
             ContentGridAuditMessagingProperties auditProperties
     ) {
+        return createMessageSendingAuditHandler(sendingOperations, auditProperties);
+    }
+
+    private static MessageSendingAuditHandler createMessageSendingAuditHandler(
+            MessageSendingOperations<String> sendingOperations,
+            ContentGridAuditMessagingProperties auditProperties
+    ) {
+        if (ClassUtils.isPresent(RABBIT_MESSAGING_TEMPLATE, null)) {
+            var batchScope = RabbitBatchScope.forOperations(sendingOperations);
+            if (batchScope != null) {
+                return new MessageSendingAuditHandler(sendingOperations, auditProperties.getDestination(), batchScope);
+            }
+        }
         return new MessageSendingAuditHandler(sendingOperations, auditProperties.getDestination());
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = CONTENTGRID_AUDIT_MESSAGING, name = "spool.enabled", havingValue = "true")
+    static class AuditEventSpoolConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = CONTENTGRID_AUDIT_MESSAGING, name = "destination")
+        SpoolingAuditEventHandler spoolingAuditEventHandler(
+                @ContentGridMessaging MessageSendingOperations<String> sendingOperations,
+                ContentGridAuditMessagingProperties auditProperties
+        ) throws IOException {
+            var spoolProperties = auditProperties.getSpool();
+            if (spoolProperties.getDirectory() == null) {
+                throw new IllegalStateException(
+                        "%s.spool.directory is required when the audit event spool is enabled"
+                                .formatted(CONTENTGRID_AUDIT_MESSAGING));
+            }
+            var maxSize = spoolProperties.getMaxSize();
+            var spool = new AuditEventSpool(spoolProperties.getDirectory(),
+                    Math.toIntExact(spoolProperties.getSegmentSize().toBytes()),
+                    maxSize == null ? Long.MAX_VALUE : maxSize.toBytes());
+            return new SpoolingAuditEventHandler(
+                    spool,
+                    createMessageSendingAuditHandler(sendingOperations, auditProperties),
+                    spoolProperties.getBatchSize(),
+                    spoolProperties.getRetryInitialInterval(),
+                    spoolProperties.getRetryMaxInterval()
+            );
+        }
+    }
+
     @Bean
     Jackson2AuditMessagingModule jackson2AuditMessagingModule() {
         return new Jackson2AuditMessagingModule();
@@ -99,6 +157,24 @@ public class ContentGridAuditMessagingAutoConfiguration {
         return new AuditEventMessageConverter(objectMapper);
     }
 
+    /**
+     * Sends all messages of a batch on the same channel. Kept separate, so this configuration does not require
+     * spring-rabbit on the classpath.
+     */
+    private static class RabbitBatchScope {
+
+        static BatchScope forOperations(MessageSendingOperations<String> sendingOperations) {
+            if (sendingOperations instanceof RabbitMessagingTemplate rabbitMessagingTemplate) {
+                var rabbitTemplate = rabbitMessagingTemplate.getRabbitTemplate();
+                return sends -> rabbitTemplate.invoke(operations -> {
+                    sends.run();
+                    return null;
+                });
+            }
+            return null;
+        }
+    }
+
     @ConfigurationProperties(CONTENTGRID_AUDIT_MESSAGING)
     @Data
     static class ContentGridAuditMessagingProperties {
@@ -106,6 +182,38 @@ public class ContentGridAuditMessagingAutoConfiguration {
         private String source;
 
         private String destination;
+
+        private Spool spool = new Spool();
+
+        /**
+         * Writes audit events to a local spool first, and forwards them to the destination in the background, so
+         * audit events are not lost when the message broker is unavailable
+         */
+        @Data
+        static class Spool {
+
+            private boolean enabled = false;
+
+            /**
+             * Directory of the spool; required when the spool is enabled. Should be on a persistent volume to keep
+             * audit events across restarts, and can not be shared with other application instances.
+             */
+            private Path directory;
+
+            private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+            /**
+             * Maximum size of the spool on disk; unlimited when not set. When the spool is full, audit events are sent
+             * to the destination directly.
+             */
+            private DataSize maxSize;
+
+            private int batchSize = 100;
+
+            private Duration retryInitialInterval = Duration.ofSeconds(1);
+
+            private Duration retryMaxInterval = Duration.ofMinutes(1);
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package com.contentgrid.spring.boot.autoconfigure.data.pagination;
 
+import com.contentgrid.spring.data.pagination.jpa.ContentGridItemCountProperties;
 import com.contentgrid.spring.data.pagination.jpa.ContentGridSpringDataPaginationJpaConfiguration;
 import javax.sql.DataSource;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.ImportSelector;
@@ -39,6 +41,12 @@ public class JpaPaginationAutoConfiguration {
         return new JpaRepositoryConfigExtension();
     }
 
+    @Bean
+    @ConfigurationProperties("contentgrid.pagination.count")
+    ContentGridItemCountProperties contentGridItemCountProperties() {
+        return new ContentGridItemCountProperties();
+    }
+
     static class JpaRepositoriesImportSelector implements ImportSelector {
 
         @Override
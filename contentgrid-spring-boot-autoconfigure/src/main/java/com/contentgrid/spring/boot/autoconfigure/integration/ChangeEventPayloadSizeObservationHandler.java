@@ -0,0 +1,43 @@
+package com.contentgrid.spring.boot.autoconfigure.integration;
+
+import com.contentgrid.spring.integration.events.ChangeEventObservationContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation.Context;
+import io.micrometer.observation.ObservationHandler;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the size of serialized change event payloads as a distribution, with the same tags as the serialization
+ * observation.
+ */
+@RequiredArgsConstructor
+class ChangeEventPayloadSizeObservationHandler implements ObservationHandler<ChangeEventObservationContext> {
+
+    static final String METER_NAME = "contentgrid.events.payload.size";
+
+    @NonNull
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supportsContext(Context context) {
+        return context instanceof ChangeEventObservationContext;
+    }
+
+    @Override
+    public void onStop(ChangeEventObservationContext context) {
+        if (context.getPayloadSize() < 0) {
+            return;
+        }
+        DistributionSummary.builder(METER_NAME)
+                .description("Size of serialized change event payloads")
+                .baseUnit("bytes")
+                .tags(context.getLowCardinalityKeyValues().stream()
+                        .map(keyValue -> Tag.of(keyValue.getKey(), keyValue.getValue()))
+                        .toList())
+                .register(meterRegistry)
+                .record(context.getPayloadSize());
+    }
+}
@@ -1,27 +1,48 @@
 package com.contentgrid.spring.boot.autoconfigure.integration;
 
+import com.contentgrid.spring.boot.autoconfigure.data.pagination.JpaPaginationAutoConfiguration;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.integration.events.ChangeEventHandlerExecutor;
+import com.contentgrid.spring.integration.events.ChangeEventPayloadFormat;
+import com.contentgrid.spring.integration.events.ChangeEventSubscriptions;
+import com.contentgrid.spring.integration.events.ConfiguredChangeEventSubscriptions;
 import com.contentgrid.spring.integration.events.ContentGridEventHandlerProperties;
 import com.contentgrid.spring.integration.events.EntityChangeEventHandler;
 import com.contentgrid.spring.integration.events.ChangeEventPublicationConfiguration;
+import com.contentgrid.spring.integration.events.ChangeEventSummaryRequestFilter;
 import com.contentgrid.spring.integration.events.EntityChangeHibernateEventListener;
+import com.contentgrid.spring.integration.events.outbox.ChangeEventOutboxConfiguration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.autoconfigure.data.rest.RepositoryRestMvcAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.repository.support.Repositories;
 import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.integration.amqp.dsl.Amqp;
+import org.springframework.integration.channel.interceptor.GlobalChannelInterceptorWrapper;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.util.StringUtils;
 
 @AutoConfiguration
 @ConditionalOnClass(EntityChangeHibernateEventListener.class)
 @ConditionalOnBean(TypeConstrainedMappingJackson2HttpMessageConverter.class)
-@AutoConfigureAfter(RepositoryRestMvcAutoConfiguration.class)
+@AutoConfigureAfter(value = {RepositoryRestMvcAutoConfiguration.class, JpaPaginationAutoConfiguration.class},
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @Import(ChangeEventPublicationConfiguration.class)
 public class EventsAutoConfiguration {
 
@@ -39,9 +60,128 @@ public class EventsAutoConfiguration {
         @Bean
         EntityChangeEventHandler messageHandler(RabbitTemplate rabbitTemplate,
                 ContentGridEventHandlerProperties config) {
-            return () -> Amqp.outboundAdapter(rabbitTemplate)
-                    .routingKey(config.getEvents().getRabbitmq().getRoutingKey())
-                    .getObject();
+            return new EntityChangeEventHandler() {
+                @Override
+                public MessageHandler get() {
+                    return Amqp.outboundAdapter(rabbitTemplate)
+                            .routingKey(config.getEvents().getRabbitmq().getRoutingKey())
+                            .getObject();
+                }
+
+                @Override
+                public ChangeEventPayloadFormat payloadFormat() {
+                    return config.getEvents().getRabbitmq().getPayloadFormat();
+                }
+            };
+        }
+    }
+
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    // The servlet API is not a runtime dependency of the events module
+    @ConditionalOnClass(name = "jakarta.servlet.http.HttpServletRequest")
+    @ConditionalOnProperty(value = "contentgrid.events.summary.enabled", havingValue = "true")
+    @Configuration(proxyBeanMethods = false)
+    static class EventsSummaryRequestAutoConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ChangeEventSummaryRequestFilter contentGridChangeEventSummaryRequestFilter(
+                ContentGridEventHandlerProperties config) {
+            var role = config.getEvents().getSummary().getRole();
+            if (StringUtils.hasText(role)) {
+                return new ChangeEventSummaryRequestFilter(request -> request.isUserInRole(role));
+            }
+            return new ChangeEventSummaryRequestFilter(request -> true);
+        }
+    }
+
+    @ConditionalOnProperty(value = "contentgrid.events.outbox.enabled", havingValue = "true")
+    @Import(ChangeEventOutboxConfiguration.class)
+    @Configuration(proxyBeanMethods = false)
+    static class EventsOutboxAutoConfiguration {
+
+    }
+
+    @ConditionalOnProperty(value = "contentgrid.events.filter.enabled", havingValue = "true")
+    @Configuration(proxyBeanMethods = false)
+    static class EventsFilterAutoConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ChangeEventSubscriptions contentGridChangeEventSubscriptions(ContentGridEventHandlerProperties config) {
+            return new ConfiguredChangeEventSubscriptions(config.getEvents().getFilter().getEntities());
+        }
+    }
+
+    @ConditionalOnProperty(value = "contentgrid.events.async.enabled", havingValue = "true")
+    @Configuration(proxyBeanMethods = false)
+    static class EventsAsyncAutoConfiguration {
+
+        @Bean
+        ChangeEventHandlerExecutor contentGridChangeEventHandlerExecutor(ContentGridEventHandlerProperties config) {
+            return new ChangeEventHandlerExecutor(config.getEvents().getAsync());
+        }
+
+        @ConditionalOnClass(MeterBinder.class)
+        @Configuration(proxyBeanMethods = false)
+        static class EventsAsyncMetricsConfiguration {
+
+            @Bean
+            MeterBinder contentGridChangeEventHandlerExecutorMetrics(ChangeEventHandlerExecutor executor) {
+                return registry -> bindExecutorMetrics(executor, registry);
+            }
+
+            private static void bindExecutorMetrics(ChangeEventHandlerExecutor executor, MeterRegistry registry) {
+                Gauge.builder("contentgrid.events.queue.size", executor, ChangeEventHandlerExecutor::getQueueSize)
+                        .description("Number of change events waiting to be handled")
+                        .register(registry);
+                Gauge.builder("contentgrid.events.queue.remaining", executor,
+                                ChangeEventHandlerExecutor::getRemainingCapacity)
+                        .description("Number of change events that can be queued before the overflow policy applies")
+                        .register(registry);
+                FunctionCounter.builder("contentgrid.events.dropped", executor,
+                                ChangeEventHandlerExecutor::getDroppedCount)
+                        .description("Number of change events dropped because the queue was full")
+                        .register(registry);
+            }
+        }
+    }
+
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @Configuration(proxyBeanMethods = false)
+    static class EventsMetricsConfiguration {
+
+        @Bean
+        ChangeEventPayloadSizeObservationHandler contentGridChangeEventPayloadSizeObservationHandler(
+                MeterRegistry meterRegistry) {
+            return new ChangeEventPayloadSizeObservationHandler(meterRegistry);
+        }
+    }
+
+    @ConditionalOnClass(ItemCountCache.class)
+    @ConditionalOnBean(ItemCountCache.class)
+    @Configuration(proxyBeanMethods = false)
+    static class ItemCountCacheInvalidationConfiguration {
+
+        @Bean
+        ItemCountCacheInvalidatingHibernateEventListener contentGridItemCountCacheChangeInvalidation(
+                EntityManagerFactory entityManagerFactory,
+                Repositories repositories,
+                ItemCountCache itemCountCache
+        ) {
+            return new ItemCountCacheInvalidatingHibernateEventListener(entityManagerFactory, repositories,
+                    itemCountCache);
+        }
+
+        @Bean
+        GlobalChannelInterceptorWrapper contentGridItemCountCacheRelayedChangeInvalidation(
+                ItemCountCache itemCountCache) {
+            // Changes of this instance are invalidated by the Hibernate listener, relayed events can be of others
+            var interceptor = new GlobalChannelInterceptorWrapper(
+                    new ItemCountCacheInvalidatingChannelInterceptor(itemCountCache));
+            interceptor.setPatterns(new String[]{ChangeEventOutboxConfiguration.OUTBOX_CHANNEL});
+            return interceptor;
         }
     }
 
@@ -0,0 +1,60 @@
+package com.contentgrid.spring.boot.autoconfigure.integration;
+
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Invalidates cached item counts for the domain type of every entity change event that is sent to a channel.
+ * <p>
+ * Changes are already invalidated on the instance that makes them by
+ * {@link ItemCountCacheInvalidatingHibernateEventListener}. Events that are relayed from the outbox can be changes of
+ * another instance; invalidating for them keeps the counts of the relaying instance up to date as well.
+ * <p>
+ * Change events can be sent before the transaction commits, so a count that is computed concurrently can still see
+ * the old state. Cached counts are invalidated again when the transaction completes.
+ * <p>
+ * Events that are relayed from the outbox are already rendered; their domain type is taken from the {@code entity}
+ * header.
+ */
+@RequiredArgsConstructor
+class ItemCountCacheInvalidatingChannelInterceptor implements ChannelInterceptor {
+
+    @NonNull
+    private final ItemCountCache itemCountCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        var domainType = getDomainType(message);
+        if (domainType != null) {
+            itemCountCache.invalidate(domainType);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        itemCountCache.invalidate(domainType);
+                    }
+                });
+            }
+        }
+        return message;
+    }
+
+    private static Class<?> getDomainType(Message<?> message) {
+        if (message.getPayload() instanceof EntityChangeEvent changeEvent) {
+            return changeEvent.getDomainType();
+        }
+        var entity = message.getHeaders().get("entity", String.class);
+        if (entity != null && ClassUtils.isPresent(entity, null)) {
+            return ClassUtils.resolveClassName(entity, null);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.contentgrid.spring.boot.autoconfigure.integration;
+
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates cached item counts when entities change, on the instance that makes the change.
+ * <p>
+ * This does not depend on change events: they can be filtered out by subscriptions, or, with the outbox, only be
+ * published later by another instance. The cached counts of the changed domain type are invalidated immediately, and
+ * again when the transaction completes, so a count that is computed concurrently from the old state is not served
+ * after the commit.
+ * <p>
+ * Updates and collection changes do not change the number of entities, but they can change the outcome of filters.
+ * For collection changes, the counts of the owning domain type and of the element domain type are invalidated.
+ */
+@RequiredArgsConstructor
+class ItemCountCacheInvalidatingHibernateEventListener implements PostInsertEventListener,
+        PostUpdateEventListener, PostDeleteEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRecreateEventListener, PostCollectionRemoveEventListener, InitializingBean {
+
+    @NonNull
+    private final EntityManagerFactory entityManagerFactory;
+
+    @NonNull
+    private final Repositories repositories;
+
+    @NonNull
+    private final ItemCountCache itemCountCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        var registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.getEventListenerGroup(EventType.POST_INSERT).appendListener(this);
+        registry.getEventListenerGroup(EventType.POST_UPDATE).appendListener(this);
+        registry.getEventListenerGroup(EventType.POST_DELETE).appendListener(this);
+        registry.getEventListenerGroup(EventType.POST_COLLECTION_UPDATE).appendListener(this);
+        registry.getEventListenerGroup(EventType.POST_COLLECTION_RECREATE).appendListener(this);
+        registry.getEventListenerGroup(EventType.POST_COLLECTION_REMOVE).appendListener(this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity().getClass());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // Updates can change the outcome of filters, so counts of filtered collections can change
+        invalidate(event.getEntity().getClass());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity().getClass());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        invalidate(ownerType(event));
+        invalidateElementType(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        invalidate(ownerType(event));
+        invalidateElementType(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        invalidate(ownerType(event));
+        invalidateElementType(event);
+    }
+
+    private static Class<?> ownerType(AbstractCollectionEvent event) {
+        return event.getSession().getFactory().getMappingMetamodel()
+                .getEntityDescriptor(event.getAffectedOwnerEntityName())
+                .getMappedClass();
+    }
+
+    private void invalidateElementType(AbstractCollectionEvent event) {
+        var role = event.getCollection().getRole();
+        if (role == null) {
+            return;
+        }
+        var elementType = event.getSession().getFactory().getMappingMetamodel()
+                .getCollectionDescriptor(role)
+                .getElementType();
+        if (elementType.isEntityType()) {
+            invalidate(elementType.getReturnedClass());
+        }
+    }
+
+    private void invalidate(Class<?> entityType) {
+        if (!repositories.hasRepositoryFor(entityType)) {
+            // No counts are cached for entities without a repository
+            return;
+        }
+        var domainType = repositories.getPersistentEntity(entityType).getType();
+        itemCountCache.invalidate(domainType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    itemCountCache.invalidate(domainType);
+                }
+            });
+        }
+    }
+}
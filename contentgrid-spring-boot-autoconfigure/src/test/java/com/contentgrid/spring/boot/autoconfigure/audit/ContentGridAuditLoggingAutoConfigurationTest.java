@@ -2,8 +2,13 @@ package com.contentgrid.spring.boot.autoconfigure.audit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.contentgrid.spring.audit.AsyncAuditEventDispatcher;
+import com.contentgrid.spring.audit.AsyncAuditProperties;
+import com.contentgrid.spring.audit.AuditLogProperties;
+import com.contentgrid.spring.audit.AuditLogProperties.Target;
 import com.contentgrid.spring.audit.event.AbstractAuditEvent;
 import com.contentgrid.spring.audit.handler.AuditEventHandler;
+import com.contentgrid.spring.audit.handler.JsonLinesAuditHandler;
 import com.contentgrid.spring.audit.handler.LoggingAuditHandler;
 import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.Test;
@@ -69,6 +74,50 @@ class ContentGridAuditLoggingAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void jsonFormat() {
+        contextRunner.withPropertyValues("contentgrid.audit.log.format=json")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JsonLinesAuditHandler.class);
+                    assertThat(context).doesNotHaveBean(LoggingAuditHandler.class);
+                });
+    }
+
+    @Test
+    void jsonFormat_toStandardError() {
+        contextRunner.withPropertyValues("contentgrid.audit.log.format=json", "contentgrid.audit.log.target=stderr")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JsonLinesAuditHandler.class);
+                    assertThat(context.getBean(AuditLogProperties.class).getTarget()).isEqualTo(Target.STDERR);
+                });
+    }
+
+    @Test
+    void jsonFormat_manuallyDisabled() {
+        contextRunner.withPropertyValues("contentgrid.audit.log.format=json")
+                .with(loggingEnabled(false))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(JsonLinesAuditHandler.class);
+                    assertThat(context).doesNotHaveBean(LoggingAuditHandler.class);
+                });
+    }
+
+    @Test
+    void asyncDispatch_disabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(AsyncAuditEventDispatcher.class);
+        });
+    }
+
+    @Test
+    void asyncDispatch_enabled() {
+        contextRunner.withPropertyValues("contentgrid.audit.async.enabled=true", "contentgrid.audit.async.batch-size=10")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(AsyncAuditEventDispatcher.class);
+                    assertThat(context.getBean(AsyncAuditProperties.class).getBatchSize()).isEqualTo(10);
+                });
+    }
+
     private static class CustomAuditHandler implements AuditEventHandler {
 
         @Override
@@ -3,8 +3,11 @@ package com.contentgrid.spring.boot.autoconfigure.audit;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.contentgrid.spring.audit.handler.messaging.MessageSendingAuditHandler;
+import com.contentgrid.spring.audit.handler.spool.SpoolingAuditEventHandler;
 import com.contentgrid.spring.boot.autoconfigure.messaging.ContentGridMessagingAutoConfiguration;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.rest.RepositoryRestMvcAutoConfiguration;
@@ -65,6 +68,31 @@ class ContentGridAuditMessagingAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void spoolingHandlerEnabledByProperty(@TempDir Path spoolDirectory) {
+        contextRunner.withConfiguration(AutoConfigurations.of(RabbitAutoConfiguration.class))
+                .withUserConfiguration(AmqpServiceConnection.class)
+                .withPropertyValues(
+                        "contentgrid.audit.messaging.spool.enabled=true",
+                        "contentgrid.audit.messaging.spool.directory=" + spoolDirectory
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(SpoolingAuditEventHandler.class);
+                    // The message sending handler is only used by the spooling handler
+                    assertThat(context).doesNotHaveBean(MessageSendingAuditHandler.class);
+                });
+    }
+
+    @Test
+    void spoolingHandlerRequiresDirectory() {
+        contextRunner.withConfiguration(AutoConfigurations.of(RabbitAutoConfiguration.class))
+                .withUserConfiguration(AmqpServiceConnection.class)
+                .withPropertyValues("contentgrid.audit.messaging.spool.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                });
+    }
+
     @Test
     void defaultConverterUsedWhenNoSourceConfigured() {
         contextRunner.withConfiguration(AutoConfigurations.of(RabbitAutoConfiguration.class))
@@ -64,6 +64,19 @@ class WebPaginationAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void pagination_configuration_keyset_cursor_pagination() {
+        contextRunner
+                .withPropertyValues("contentgrid.rest.pagination=keyset_cursor")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+
+                    assertThat(context).hasSingleBean(CursorCodec.class);
+                    assertThat(context.getBean(RepositoryRestConfiguration.class).getPageParamName()).isEqualTo(
+                            "_cursor");
+                });
+    }
+
     @Test
     void pagination_configuration_custom_codec() {
         contextRunner
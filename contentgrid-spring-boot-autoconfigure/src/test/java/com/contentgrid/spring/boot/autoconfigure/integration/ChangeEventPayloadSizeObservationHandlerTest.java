@@ -0,0 +1,48 @@
+package com.contentgrid.spring.boot.autoconfigure.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.ChangeEventObservationContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+
+class ChangeEventPayloadSizeObservationHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    {
+        observationRegistry.observationConfig()
+                .observationHandler(new ChangeEventPayloadSizeObservationHandler(meterRegistry));
+    }
+
+    private void observe(long payloadSize) {
+        var context = new ChangeEventObservationContext(MessageBuilder.withPayload("event").build());
+        Observation.createNotStarted(ChangeEventObservationContext.SERIALIZE, () -> context, observationRegistry)
+                .lowCardinalityKeyValue(ChangeEventObservationContext.TRIGGER, "create")
+                .observe(() -> context.setPayloadSize(payloadSize));
+    }
+
+    @Test
+    void recordsPayloadSize() {
+        observe(100);
+        observe(300);
+
+        var summary = meterRegistry.get(ChangeEventPayloadSizeObservationHandler.METER_NAME)
+                .tag(ChangeEventObservationContext.TRIGGER, "create")
+                .summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(400);
+    }
+
+    @Test
+    void ignoresUnknownPayloadSize() {
+        observe(-1);
+
+        assertThat(meterRegistry.find(ChangeEventPayloadSizeObservationHandler.METER_NAME).summary()).isNull();
+    }
+}
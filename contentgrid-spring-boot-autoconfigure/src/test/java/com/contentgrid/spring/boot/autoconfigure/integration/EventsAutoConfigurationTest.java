@@ -2,6 +2,11 @@ package com.contentgrid.spring.boot.autoconfigure.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.contentgrid.spring.integration.events.ChangeEventHandlerExecutor;
+import com.contentgrid.spring.integration.events.ChangeEventSummaryRequestFilter;
+import com.contentgrid.spring.integration.events.ChangeEventSubscriptions;
+import com.contentgrid.spring.integration.events.ConfiguredChangeEventSubscriptions;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
 import com.contentgrid.spring.integration.events.EntityChangeHibernateEventListener;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
@@ -42,4 +47,69 @@ class EventsAutoConfigurationTest {
                     assertThat(context).doesNotHaveBean(EntityChangeHibernateEventListener.class);
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    void asyncHandlerExecutor_disabledByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ChangeEventHandlerExecutor.class);
+                });
+    }
+
+    @Test
+    void asyncHandlerExecutor_enabled() {
+        contextRunner
+                .withPropertyValues("contentgrid.events.async.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ChangeEventHandlerExecutor.class);
+                });
+    }
+
+    @Test
+    void changeEventFilter_disabledByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ChangeEventSubscriptions.class);
+                });
+    }
+
+    @Test
+    void changeEventFilter_enabled() {
+        contextRunner
+                .withPropertyValues(
+                        "contentgrid.events.filter.enabled=true",
+                        "contentgrid.events.filter.entities.invoice=create,delete"
+                )
+                .run(context -> {
+                    assertThat(context).getBean(ChangeEventSubscriptions.class)
+                            .isInstanceOfSatisfying(ConfiguredChangeEventSubscriptions.class, subscriptions -> {
+                                assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.CREATE)).isTrue();
+                                assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.UPDATE)).isFalse();
+                            });
+                });
+    }
+
+    @Test
+    void changeEventSummaryRequestFilter_disabledByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ChangeEventSummaryRequestFilter.class);
+                });
+    }
+
+    @Test
+    void changeEventSummaryRequestFilter_enabled() {
+        contextRunner
+                .withPropertyValues(
+                        "contentgrid.events.summary.enabled=true",
+                        "contentgrid.events.summary.role=bulk-importer"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ChangeEventSummaryRequestFilter.class);
+                });
+    }
+
+    static class Invoice {
+
+    }
+}
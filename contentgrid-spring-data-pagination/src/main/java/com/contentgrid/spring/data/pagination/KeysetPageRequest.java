@@ -0,0 +1,164 @@
+package com.contentgrid.spring.data.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link PageRequest} that additionally carries a keyset: the values of the sort keys (and the entity id as
+ * tie-breaker) of the row adjacent to the requested page.
+ * <p>
+ * When a keyset is present, the page is located by seeking past the keyset instead of by skipping
+ * {@link #getOffset()} rows. The page number is still tracked, but is only informational when seeking.
+ * <p>
+ * A {@link KeysetPageRequest} that was used to fetch a page can carry the keys of the first and last items of that
+ * page, so {@link #next()} and {@link #previous()} can seek from there.
+ */
+public class KeysetPageRequest extends PageRequest {
+
+    @Getter
+    @Nullable
+    private final Keyset keyset;
+
+    @Nullable
+    private final List<Object> firstItemKey;
+
+    @Nullable
+    private final List<Object> lastItemKey;
+
+    public KeysetPageRequest(int pageNumber, int pageSize, Sort sort, @Nullable Keyset keyset) {
+        this(pageNumber, pageSize, sort, keyset, null, null);
+    }
+
+    private KeysetPageRequest(
+            int pageNumber,
+            int pageSize,
+            Sort sort,
+            @Nullable Keyset keyset,
+            @Nullable List<Object> firstItemKey,
+            @Nullable List<Object> lastItemKey
+    ) {
+        super(pageNumber, pageSize, sort);
+        this.keyset = keyset;
+        this.firstItemKey = firstItemKey;
+        this.lastItemKey = lastItemKey;
+    }
+
+    /**
+     * Creates a first page request without keyset
+     */
+    public static KeysetPageRequest of(int pageSize, Sort sort) {
+        return new KeysetPageRequest(0, pageSize, sort, null);
+    }
+
+    /**
+     * Creates a copy of this page request that knows the keys of the first and last items on the page
+     *
+     * @param pageNumber The (possibly corrected) page number of the page that was fetched
+     * @param firstItemKey Sort key values (followed by the id) of the first item on the page
+     * @param lastItemKey Sort key values (followed by the id) of the last item on the page
+     */
+    public KeysetPageRequest withItemKeys(int pageNumber, List<Object> firstItemKey, List<Object> lastItemKey) {
+        return new KeysetPageRequest(pageNumber, getPageSize(), getSort(), keyset,
+                copyOf(firstItemKey), copyOf(lastItemKey));
+    }
+
+    @Override
+    public KeysetPageRequest next() {
+        return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(),
+                lastItemKey == null ? null : Keyset.after(lastItemKey));
+    }
+
+    @Override
+    public KeysetPageRequest previous() {
+        if (getPageNumber() == 0) {
+            return this;
+        }
+        return new KeysetPageRequest(getPageNumber() - 1, getPageSize(), getSort(),
+                firstItemKey == null ? null : Keyset.before(firstItemKey));
+    }
+
+    @Override
+    public KeysetPageRequest first() {
+        return KeysetPageRequest.of(getPageSize(), getSort());
+    }
+
+    @Override
+    public KeysetPageRequest withPage(int pageNumber) {
+        return new KeysetPageRequest(pageNumber, getPageSize(), getSort(), null);
+    }
+
+    @Override
+    public KeysetPageRequest withSort(Sort sort) {
+        // Keyset values are only valid for the sort they were taken with
+        return new KeysetPageRequest(getPageNumber(), getPageSize(), sort, null);
+    }
+
+    @Override
+    public KeysetPageRequest withSort(Sort.Direction direction, String... properties) {
+        return withSort(Sort.by(direction, properties));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof KeysetPageRequest that)) {
+            return false;
+        }
+        return super.equals(that)
+                && Objects.equals(keyset, that.keyset)
+                && Objects.equals(firstItemKey, that.firstItemKey)
+                && Objects.equals(lastItemKey, that.lastItemKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hash(keyset, firstItemKey, lastItemKey);
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset page request [number: %d, size %d, sort: %s, keyset: %s]".formatted(getPageNumber(),
+                getPageSize(), getSort(), keyset);
+    }
+
+    private static List<Object> copyOf(List<Object> values) {
+        // List.copyOf() does not allow null values, which are valid sort key values
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Position to seek from
+     *
+     * @param values Sort key values, in the order of the sort, followed by the entity id. Values are either of the type
+     * of the sort key, or their string representation when decoded from a cursor.
+     * @param backward {@code false} to fetch the items after this position; {@code true} to fetch the items before
+     * it
+     */
+    public record Keyset(
+            @NonNull
+            List<Object> values,
+            boolean backward
+    ) {
+
+        public Keyset {
+            values = copyOf(values);
+        }
+
+        public static Keyset after(List<Object> values) {
+            return new Keyset(values, false);
+        }
+
+        public static Keyset before(List<Object> values) {
+            return new Keyset(values, true);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.contentgrid.spring.data.pagination.cursor;
+
+import com.contentgrid.spring.data.pagination.KeysetPageRequest;
+import com.contentgrid.spring.data.pagination.KeysetPageRequest.Keyset;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * Keyset-based cursor: encodes the sort key values and the id of the item adjacent to the requested page.
+ * <p>
+ * Decoded cursors result in a {@link KeysetPageRequest}, which makes the
+ * {@link com.contentgrid.spring.data.pagination.jpa.ContentGridPaginationQuerydslJpaPredicateExecutor} seek to the
+ * page instead of using an offset. Fetching a page has the same cost regardless of how deep it is in the collection.
+ * <p>
+ * Sort key values are stored as strings; they are converted back to their actual type when the query is built. This
+ * codec should be wrapped in a {@link RequestIntegrityCheckCursorCodec}, so a cursor can not be used with a different
+ * sort order than the one it was created for.
+ */
+public class KeysetCursorCodec implements CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Version of the binary cursor format, so the format can be changed later while still accepting older cursors
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte NO_KEYSET = 0;
+    private static final byte KEYSET_AFTER = 1;
+    private static final byte KEYSET_BEFORE = 2;
+
+    @Override
+    public Pageable decodeCursor(CursorContext context, UriComponents uriComponents) throws CursorDecodeException {
+        if (!StringUtils.hasText(context.cursor())) {
+            return KeysetPageRequest.of(context.pageSize(), context.sort());
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(context.cursor());
+        } catch (IllegalArgumentException ex) {
+            throw new CursorDecodeException("must be a valid cursor", ex);
+        }
+
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (input.readByte() != FORMAT_VERSION) {
+                throw new CursorDecodeException("has an unsupported format");
+            }
+            var pageNumber = input.readInt();
+            if (pageNumber < 0) {
+                throw new CursorDecodeException("may not have a negative page number");
+            }
+            var keyset = switch (input.readByte()) {
+                case NO_KEYSET -> null;
+                case KEYSET_AFTER -> Keyset.after(readValues(input));
+                case KEYSET_BEFORE -> Keyset.before(readValues(input));
+                default -> throw new CursorDecodeException("has an invalid keyset direction");
+            };
+            if (input.available() > 0) {
+                throw new CursorDecodeException("has trailing data");
+            }
+            return new KeysetPageRequest(pageNumber, context.pageSize(), context.sort(), keyset);
+        } catch (IOException ex) {
+            throw new CursorDecodeException("must be a valid cursor", ex);
+        }
+    }
+
+    @Override
+    public CursorContext encodeCursor(Pageable pageable, UriComponents uriComponents) {
+        var keyset = pageable instanceof KeysetPageRequest keysetPageRequest ? keysetPageRequest.getKeyset() : null;
+
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(pageable.getPageNumber());
+            if (keyset == null) {
+                output.writeByte(NO_KEYSET);
+            } else {
+                output.writeByte(keyset.backward() ? KEYSET_BEFORE : KEYSET_AFTER);
+                writeValues(output, keyset.values());
+            }
+        } catch (IOException ex) {
+            // Writing to a byte array can not fail
+            throw new UncheckedIOException(ex);
+        }
+
+        return new CursorContext(ENCODER.encodeToString(bytes.toByteArray()), pageable.getPageSize(),
+                pageable.getSort());
+    }
+
+    private static List<Object> readValues(DataInputStream input) throws IOException {
+        var size = input.readUnsignedShort();
+        var values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(input.readBoolean() ? input.readUTF() : null);
+        }
+        return values;
+    }
+
+    private static void writeValues(DataOutputStream output, List<Object> values) throws IOException {
+        output.writeShort(values.size());
+        for (var value : values) {
+            output.writeBoolean(value != null);
+            if (value != null) {
+                output.writeUTF(valueToString(value));
+            }
+        }
+    }
+
+    private static String valueToString(Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        // Numbers, strings, UUIDs and java.time types all have a toString() that can be parsed back
+        return value.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.contentgrid.spring.data.pagination.jpa;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * Configuration of how the total number of items in a collection is counted
+ */
+@Data
+public class ContentGridItemCountProperties {
+
+    /**
+     * Time after which an exact count is abandoned
+     */
+    private Duration timeout = Duration.ofSeconds(1);
+
+    /**
+     * Time after which an exact count is abandoned, for specific entities. Entities are identified by their class
+     * name or fully qualified class name.
+     */
+    private Map<String, Duration> entityTimeouts = new HashMap<>();
+
+    private Async async = new Async();
+
+    private Adaptive adaptive = new Adaptive();
+
+    private Cache cache = new Cache();
+
+    private Statistics statistics = new Statistics();
+
+    @Data
+    public static class Async {
+
+        /**
+         * Run exact counts on a separate thread pool, and only wait for them for a limited time
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time to wait for an exact count before falling back to an estimate
+         */
+        private Duration budget = Duration.ofMillis(50);
+
+        /**
+         * Number of threads that can run exact counts concurrently
+         */
+        private int threads = 4;
+
+        /**
+         * Number of exact counts that can be waiting for a thread, before falling back to an estimate immediately
+         */
+        private int queueCapacity = 100;
+    }
+
+    @Data
+    public static class Adaptive {
+
+        /**
+         * Skip exact counts for query shapes where exact counts repeatedly failed to complete in time
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of consecutive failed exact counts after which exact counts are skipped
+         */
+        private int failureThreshold = 3;
+
+        /**
+         * Interval at which an exact count is tried again for query shapes where exact counts are skipped
+         */
+        private Duration probeInterval = Duration.ofMinutes(1);
+
+        /**
+         * Maximum number of query shapes for which history is kept
+         */
+        private int maximumShapes = 1000;
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Serve exact counts from the cache. Cached counts are invalidated when entities are changed, if entity change
+         * events are enabled. The cache is per instance of the application: changes made through other instances are
+         * only visible once the cached counts expire.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a cached exact count remains valid
+         */
+        private Duration timeToLive = Duration.ofMinutes(1);
+
+        /**
+         * Maximum number of counts that are cached
+         */
+        private int maximumSize = 1000;
+    }
+
+    @Data
+    public static class Statistics {
+
+        /**
+         * How long an estimate from the table statistics is used for unfiltered collections
+         */
+        private Duration timeToLive = Duration.ofSeconds(10);
+
+        /**
+         * Maximum number of entities for which an estimate from the table statistics is cached
+         */
+        private int maximumSize = 1000;
+    }
+}
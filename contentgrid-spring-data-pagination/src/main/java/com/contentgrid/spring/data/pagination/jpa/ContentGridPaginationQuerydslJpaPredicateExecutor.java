@@ -1,25 +1,57 @@
 package com.contentgrid.spring.data.pagination.jpa;
 
 import com.contentgrid.spring.data.pagination.ItemCountPageImpl;
+import com.contentgrid.spring.data.pagination.KeysetPageRequest;
 import com.contentgrid.spring.data.pagination.jpa.strategy.JpaQuerydslItemCountStrategy;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.OrderSpecifier.NullHandling;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPQLQuery;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.CrudMethodMetadata;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.Querydsl;
 import org.springframework.data.jpa.repository.support.QuerydslJpaPredicateExecutor;
 import org.springframework.data.querydsl.EntityPathResolver;
+import org.springframework.data.querydsl.QSort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 public class ContentGridPaginationQuerydslJpaPredicateExecutor<T> extends QuerydslJpaPredicateExecutor<T> {
 
+    /**
+     * Converts keyset values decoded from a cursor (which are strings) back to the type of their sort key
+     */
+    private static final ConversionService KEYSET_CONVERSION_SERVICE = createKeysetConversionService();
+
+    private final JpaEntityInformation<T, ?> entityInformation;
     private final EntityPath<T> path;
+    private final PathBuilder<T> pathBuilder;
     private final Querydsl querydsl;
     private final JpaQuerydslItemCountStrategy countingStrategy;
 
@@ -41,8 +73,10 @@ public class ContentGridPaginationQuerydslJpaPredicateExecutor<T> extends Queryd
             JpaQuerydslItemCountStrategy countingStrategy
     ) {
         super(entityInformation, entityManager, resolver, metadata);
+        this.entityInformation = entityInformation;
         this.path = resolver.createPath(entityInformation.getJavaType());
-        this.querydsl = new Querydsl(entityManager, new PathBuilder<>(path.getType(), path.getMetadata()));
+        this.pathBuilder = new PathBuilder<>(path.getType(), path.getMetadata());
+        this.querydsl = new Querydsl(entityManager, pathBuilder);
         this.countingStrategy = countingStrategy;
     }
 
@@ -58,6 +92,11 @@ public class ContentGridPaginationQuerydslJpaPredicateExecutor<T> extends Queryd
             return super.findAll(predicate, pageable);
         }
 
+        // Keyset pagination needs a single id attribute as tie-breaker, to have a stable, total ordering
+        if (pageable instanceof KeysetPageRequest keysetPageRequest && !entityInformation.hasCompositeId()) {
+            return findAllByKeyset(predicate, keysetPageRequest);
+        }
+
         JPQLQuery<T> query = querydsl.applyPagination(pageable, createQuery(predicate).select(path));
 
         boolean hasNext = false;
@@ -81,4 +120,216 @@ public class ContentGridPaginationQuerydslJpaPredicateExecutor<T> extends Queryd
                 () -> countingStrategy.countQuery(() -> createQuery(predicate).select(path))
         );
     }
+
+    private Page<T> findAllByKeyset(Predicate predicate, KeysetPageRequest pageable) {
+        var keyset = pageable.getKeyset();
+        var backward = keyset != null && keyset.backward();
+
+        // Going backward is done by seeking in the reversed order, and reversing the results afterward
+        var keyOrder = keysetOrderSpecifiers(pageable.getSort());
+        var queryOrder = backward
+                ? keyOrder.stream().map(ContentGridPaginationQuerydslJpaPredicateExecutor::reverse).toList()
+                : keyOrder;
+
+        // Select the sort keys together with the entity, so the keys of the first and last items are known
+        var selection = new Expression<?>[keyOrder.size() + 1];
+        selection[0] = path;
+        for (int i = 0; i < keyOrder.size(); i++) {
+            selection[i + 1] = keyOrder.get(i).getTarget();
+        }
+
+        JPQLQuery<Tuple> query = createQuery(predicate).select(selection);
+        if (keyset != null) {
+            query.where(seekPredicate(queryOrder, keyset.values()));
+        } else {
+            // No keyset to seek from (first page, or a page requested by number)
+            query.offset(pageable.getOffset());
+        }
+        query.orderBy(queryOrder.toArray(OrderSpecifier<?>[]::new));
+
+        // Limit one more than the page size, so we can determine if there is a page beyond this one
+        query.limit(pageable.getPageSize() + 1);
+        var queryResult = query.fetch();
+        var hasMore = queryResult.size() > pageable.getPageSize();
+        var tuples = new ArrayList<>(hasMore ? queryResult.subList(0, pageable.getPageSize()) : queryResult);
+
+        var pageNumber = pageable.getPageNumber();
+        boolean hasNext;
+        if (backward) {
+            Collections.reverse(tuples);
+            // We came from the page after this one
+            hasNext = true;
+            // Page numbers are only informational when seeking; make sure they agree with the actual position
+            pageNumber = hasMore ? Math.max(pageNumber, 1) : 0;
+        } else {
+            hasNext = hasMore;
+        }
+
+        var results = tuples.stream().map(tuple -> tuple.get(path)).toList();
+
+        var resultPageable = tuples.isEmpty()
+                ? pageable.withPage(pageNumber)
+                : pageable.withItemKeys(
+                        pageNumber,
+                        itemKey(tuples.get(0), keyOrder.size()),
+                        itemKey(tuples.get(tuples.size() - 1), keyOrder.size())
+                );
+
+        return new ItemCountPageImpl<>(
+                results,
+                resultPageable,
+                hasNext,
+                () -> countingStrategy.countQuery(() -> createQuery(predicate).select(path))
+        );
+    }
+
+    /**
+     * Order specifiers for keyset pagination: the requested sort with explicit null handling, followed by the entity id
+     * as tie-breaker
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<OrderSpecifier<?>> keysetOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (sort instanceof QSort qSort) {
+            for (var orderSpecifier : qSort.getOrderSpecifiers()) {
+                orderSpecifiers.add(keysetOrderSpecifier(orderSpecifier.getOrder(), orderSpecifier.getTarget(),
+                        orderSpecifier.getNullHandling()));
+            }
+        } else {
+            for (var order : sort) {
+                orderSpecifiers.add(keysetOrderSpecifier(
+                        order.isAscending() ? Order.ASC : Order.DESC,
+                        propertyPath(order.getProperty()),
+                        switch (order.getNullHandling()) {
+                            case NATIVE -> NullHandling.Default;
+                            case NULLS_FIRST -> NullHandling.NullsFirst;
+                            case NULLS_LAST -> NullHandling.NullsLast;
+                        }
+                ));
+            }
+        }
+
+        var idAttribute = entityInformation.getRequiredIdAttribute();
+        orderSpecifiers.add(keysetOrderSpecifier(Order.ASC,
+                pathBuilder.getComparable(idAttribute.getName(), (Class) idAttribute.getJavaType()),
+                NullHandling.Default));
+
+        return orderSpecifiers;
+    }
+
+    private Expression<?> propertyPath(String property) {
+        PathBuilder<?> builder = pathBuilder;
+        var segments = property.split("\\.");
+        for (int i = 0; i < segments.length - 1; i++) {
+            builder = builder.get(segments[i]);
+        }
+        return builder.getComparable(segments[segments.length - 1], Comparable.class);
+    }
+
+    /**
+     * Null handling must be explicit to be able to build the seek predicate; the defaults follow PostgreSQL, where
+     * NULL sorts as if larger than any other value
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?> keysetOrderSpecifier(Order order, Expression<?> target, NullHandling nullHandling) {
+        if (nullHandling == NullHandling.Default) {
+            nullHandling = order == Order.ASC ? NullHandling.NullsLast : NullHandling.NullsFirst;
+        }
+        return new OrderSpecifier(order, target, nullHandling);
+    }
+
+    private static OrderSpecifier<?> reverse(OrderSpecifier<?> orderSpecifier) {
+        return keysetOrderSpecifier(
+                orderSpecifier.isAscending() ? Order.DESC : Order.ASC,
+                orderSpecifier.getTarget(),
+                orderSpecifier.getNullHandling() == NullHandling.NullsFirst ? NullHandling.NullsLast
+                        : NullHandling.NullsFirst
+        );
+    }
+
+    /**
+     * Builds the predicate that selects all items strictly after the keyset in the given order.
+     * <p>
+     * This is the expanded form of the row value comparison {@code (k1, k2, id) > (v1, v2, vid)}, which also supports
+     * mixed sort directions and null values: {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR (k1 = v1 AND k2 = v2 AND id >
+     * vid)}
+     */
+    private static Predicate seekPredicate(List<OrderSpecifier<?>> orderSpecifiers, List<Object> keysetValues) {
+        if (orderSpecifiers.size() != keysetValues.size()) {
+            throw new InvalidDataAccessApiUsageException(
+                    "Keyset has %d values, but sort order has %d keys".formatted(keysetValues.size(),
+                            orderSpecifiers.size()));
+        }
+
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalKeys = new ArrayList<>();
+        for (int i = 0; i < orderSpecifiers.size(); i++) {
+            var orderSpecifier = orderSpecifiers.get(i);
+            var target = orderSpecifier.getTarget();
+            var value = convertKeysetValue(keysetValues.get(i), target.getType());
+
+            var after = afterPredicate(orderSpecifier, value);
+            if (after != null) {
+                List<Predicate> alternative = new ArrayList<>(equalKeys);
+                alternative.add(after);
+                alternatives.add(ExpressionUtils.allOf(alternative));
+            }
+
+            equalKeys.add(value == null
+                    ? ExpressionUtils.isNull(target)
+                    : ExpressionUtils.predicate(Ops.EQ, target, Expressions.constant(value)));
+        }
+
+        return Objects.requireNonNullElse(ExpressionUtils.anyOf(alternatives), Expressions.FALSE);
+    }
+
+    /**
+     * @return Predicate that selects values of the order specifier target that sort strictly after the value, or
+     * {@code null} when no value can sort after it
+     */
+    @Nullable
+    private static Predicate afterPredicate(OrderSpecifier<?> orderSpecifier, @Nullable Object value) {
+        var target = orderSpecifier.getTarget();
+        var nullsFirst = orderSpecifier.getNullHandling() == NullHandling.NullsFirst;
+        if (value == null) {
+            return nullsFirst ? ExpressionUtils.isNotNull(target) : null;
+        }
+
+        var comparison = ExpressionUtils.predicate(orderSpecifier.isAscending() ? Ops.GT : Ops.LT, target,
+                Expressions.constant(value));
+        return nullsFirst ? comparison : ExpressionUtils.or(comparison, ExpressionUtils.isNull(target));
+    }
+
+    @Nullable
+    private static Object convertKeysetValue(@Nullable Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        try {
+            return KEYSET_CONVERSION_SERVICE.convert(value, type);
+        } catch (ConversionException e) {
+            throw new InvalidDataAccessApiUsageException(
+                    "Keyset value can not be converted to %s".formatted(type.getName()), e);
+        }
+    }
+
+    private static List<Object> itemKey(Tuple tuple, int keySize) {
+        var key = new ArrayList<>(keySize);
+        for (int i = 1; i <= keySize; i++) {
+            key.add(tuple.get(i, Object.class));
+        }
+        return key;
+    }
+
+    private static ConversionService createKeysetConversionService() {
+        var conversionService = new DefaultConversionService();
+        // These types have a parseable toString(), but are not handled by the default conversions
+        conversionService.addConverter(String.class, Instant.class, Instant::parse);
+        conversionService.addConverter(String.class, LocalDate.class, LocalDate::parse);
+        conversionService.addConverter(String.class, LocalDateTime.class, LocalDateTime::parse);
+        conversionService.addConverter(String.class, LocalTime.class, LocalTime::parse);
+        conversionService.addConverter(String.class, OffsetDateTime.class, OffsetDateTime::parse);
+        conversionService.addConverter(String.class, ZonedDateTime.class, ZonedDateTime::parse);
+        return conversionService;
+    }
 }
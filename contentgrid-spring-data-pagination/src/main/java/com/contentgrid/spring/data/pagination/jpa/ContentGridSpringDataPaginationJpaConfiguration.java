@@ -1,22 +1,49 @@
 package com.contentgrid.spring.data.pagination.jpa;
 
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.data.pagination.jpa.strategy.AdaptiveItemCountStrategy;
 import com.contentgrid.spring.data.pagination.jpa.strategy.AggregateItemCountStrategy;
+import com.contentgrid.spring.data.pagination.jpa.strategy.AsyncItemCountStrategy;
+import com.contentgrid.spring.data.pagination.jpa.strategy.CachingItemCountStrategy;
 import com.contentgrid.spring.data.pagination.jpa.strategy.ExplainEstimateItemCountStrategy;
 import com.contentgrid.spring.data.pagination.jpa.strategy.JpaQuerydslItemCountStrategy;
+import com.contentgrid.spring.data.pagination.jpa.strategy.TableStatisticsItemCountStrategy;
 import com.contentgrid.spring.data.pagination.jpa.strategy.TimedDirectCountItemCountStrategy;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration(proxyBeanMethods = false)
 public class ContentGridSpringDataPaginationJpaConfiguration {
 
     @Bean
     @Order(0)
-    TimedDirectCountItemCountStrategy timedDirectCountItemCountStrategy() {
-        return new TimedDirectCountItemCountStrategy();
+    TimedDirectCountItemCountStrategy timedDirectCountItemCountStrategy(
+            ObjectProvider<ContentGridItemCountProperties> countProperties
+    ) {
+        var properties = countProperties.getIfAvailable(ContentGridItemCountProperties::new);
+        return new TimedDirectCountItemCountStrategy(properties.getTimeout(), properties.getEntityTimeouts());
+    }
+
+    @Bean
+    @Order(10)
+    TableStatisticsItemCountStrategy tableStatisticsItemCountStrategy(
+            EntityManager entityManager,
+            ObjectProvider<ContentGridItemCountProperties> countProperties
+    ) {
+        var statisticsProperties = countProperties.getIfAvailable(ContentGridItemCountProperties::new).getStatistics();
+        return new TableStatisticsItemCountStrategy(
+                entityManager,
+                new ItemCountCache(statisticsProperties.getTimeToLive(), statisticsProperties.getMaximumSize())
+        );
     }
 
     @Bean
@@ -25,9 +52,113 @@ public class ContentGridSpringDataPaginationJpaConfiguration {
         return new ExplainEstimateItemCountStrategy();
     }
 
+    @Bean
+    ItemCountCache contentGridItemCountCache(ObjectProvider<ContentGridItemCountProperties> countProperties) {
+        var cacheProperties = countProperties.getIfAvailable(ContentGridItemCountProperties::new).getCache();
+        return new ItemCountCache(cacheProperties.getTimeToLive(), cacheProperties.getMaximumSize());
+    }
+
+    @Bean
+    ItemCountExecutor contentGridItemCountExecutor(ObjectProvider<ContentGridItemCountProperties> countProperties) {
+        var properties = countProperties.getIfAvailable(ContentGridItemCountProperties::new);
+        // Running counts are abandoned after their timeout, so they do not need to be waited for any longer
+        var longestTimeout = properties.getEntityTimeouts().values().stream()
+                .reduce(properties.getTimeout(), (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        return new ItemCountExecutor(properties.getAsync(), longestTimeout);
+    }
+
     @Primary
     @Bean
-    JpaQuerydslItemCountStrategy jpaQuerydslItemCountStrategy(List<JpaQuerydslItemCountStrategy> strategies) {
-        return new AggregateItemCountStrategy(strategies);
+    JpaQuerydslItemCountStrategy jpaQuerydslItemCountStrategy(
+            List<JpaQuerydslItemCountStrategy> strategies,
+            ObjectProvider<ContentGridItemCountProperties> countProperties,
+            ObjectProvider<PlatformTransactionManager> transactionManager,
+            ItemCountCache itemCountCache,
+            ItemCountExecutor itemCountExecutor
+    ) {
+        var properties = countProperties.getIfAvailable(ContentGridItemCountProperties::new);
+        var strategy = createItemCountStrategy(strategies, properties, transactionManager, itemCountCache,
+                itemCountExecutor);
+        if (properties.getCache().isEnabled()) {
+            return new CachingItemCountStrategy(strategy, itemCountCache);
+        }
+        return strategy;
+    }
+
+    private static JpaQuerydslItemCountStrategy createItemCountStrategy(
+            List<JpaQuerydslItemCountStrategy> strategies,
+            ContentGridItemCountProperties properties,
+            ObjectProvider<PlatformTransactionManager> transactionManager,
+            ItemCountCache itemCountCache,
+            ItemCountExecutor itemCountExecutor
+    ) {
+        if (!properties.getAsync().isEnabled() && !properties.getAdaptive().isEnabled()) {
+            return new AggregateItemCountStrategy(strategies);
+        }
+
+        // Split strategies into the exact count, the (cheap) strategies that are tried before it, and the strategies
+        // that can provide an estimate when it fails
+        var exactStrategies = strategies.stream()
+                .filter(TimedDirectCountItemCountStrategy.class::isInstance)
+                .toList();
+        var firstExactStrategy = exactStrategies.isEmpty()
+                ? strategies.size()
+                : strategies.indexOf(exactStrategies.get(0));
+        var preferredStrategies = strategies.subList(0, firstExactStrategy);
+        var estimateStrategies = strategies.stream()
+                .skip(firstExactStrategy)
+                .filter(strategy -> !exactStrategies.contains(strategy))
+                .toList();
+
+        JpaQuerydslItemCountStrategy exact = new AggregateItemCountStrategy(exactStrategies);
+        JpaQuerydslItemCountStrategy estimate = new AggregateItemCountStrategy(estimateStrategies);
+
+        if (properties.getAsync().isEnabled()) {
+            exact = createAsyncItemCountStrategy(exact, properties, transactionManager.getObject(), itemCountCache,
+                    itemCountExecutor);
+        }
+
+        JpaQuerydslItemCountStrategy exactOrEstimate;
+        if (properties.getAdaptive().isEnabled()) {
+            var adaptiveProperties = properties.getAdaptive();
+            exactOrEstimate = new AdaptiveItemCountStrategy(
+                    exact,
+                    estimate,
+                    adaptiveProperties.getFailureThreshold(),
+                    adaptiveProperties.getProbeInterval(),
+                    adaptiveProperties.getMaximumShapes()
+            );
+        } else {
+            exactOrEstimate = new AggregateItemCountStrategy(List.of(exact, estimate));
+        }
+
+        if (preferredStrategies.isEmpty()) {
+            return exactOrEstimate;
+        }
+        var allStrategies = new ArrayList<>(preferredStrategies);
+        allStrategies.add(exactOrEstimate);
+        return new AggregateItemCountStrategy(allStrategies);
+    }
+
+    private static AsyncItemCountStrategy createAsyncItemCountStrategy(
+            JpaQuerydslItemCountStrategy exact,
+            ContentGridItemCountProperties properties,
+            PlatformTransactionManager transactionManager,
+            ItemCountCache itemCountCache,
+            ItemCountExecutor itemCountExecutor
+    ) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+
+        return new AsyncItemCountStrategy(
+                exact,
+                // Fallback to estimates is done by the caller
+                new AggregateItemCountStrategy(List.of()),
+                transactionTemplate,
+                itemCountExecutor.getExecutorService(),
+                properties.getAsync().getBudget(),
+                itemCountCache
+        );
     }
 }
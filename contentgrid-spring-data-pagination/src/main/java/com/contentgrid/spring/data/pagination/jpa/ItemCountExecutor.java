@@ -0,0 +1,59 @@
+package com.contentgrid.spring.data.pagination.jpa;
+
+import com.contentgrid.spring.data.pagination.jpa.ContentGridItemCountProperties.Async;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Owns the threads that run background item counts, so they are shut down together with the application context.
+ * <p>
+ * The thread pool is only started when it is first used. On shutdown, running counts get up to the count timeout to
+ * complete, so they can release their database connection, before they are interrupted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ItemCountExecutor implements DisposableBean {
+
+    @NonNull
+    private final Async properties;
+
+    @NonNull
+    private final Duration shutdownTimeout;
+
+    private ThreadPoolExecutor executor;
+
+    synchronized ExecutorService getExecutorService() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(
+                    properties.getThreads(),
+                    properties.getThreads(),
+                    60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                    new CustomizableThreadFactory("contentgrid-item-count-")
+            );
+            // Idle threads are stopped by the keep-alive timeout
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void destroy() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Item counts did not complete within {}, interrupting them", shutdownTimeout);
+            executor.shutdownNow();
+        }
+    }
+}
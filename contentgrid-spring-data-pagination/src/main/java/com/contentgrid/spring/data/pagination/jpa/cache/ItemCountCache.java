@@ -0,0 +1,118 @@
+package com.contentgrid.spring.data.pagination.jpa.cache;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Bounded in-memory cache of item counts, with a time-to-live for every entry.
+ * <p>
+ * When the maximum size is reached, the least recently used entry is evicted.
+ * <p>
+ * Every invalidation starts a new generation. A count that is computed while an invalidation happens can be stale, so
+ * it is only stored when it is put with the {@link #generation()} that was current before the count started, and
+ * no invalidation happened since.
+ * <p>
+ * The cache is local to this instance of the application: invalidations for changes made by other instances are not
+ * received, so their changes only become visible when the cached counts expire.
+ */
+public class ItemCountCache {
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    private final Map<ItemCountCacheKey, CacheEntry> entries;
+
+    // Guarded by entries
+    private long generation;
+
+    public ItemCountCache(@NonNull Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, Clock.systemUTC());
+    }
+
+    ItemCountCache(@NonNull Duration timeToLive, int maximumSize, @NonNull Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ItemCountCacheKey, CacheEntry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return The cached count, or an empty optional if there is no count cached, or it has expired
+     */
+    public Optional<ItemCount> get(@NonNull ItemCountCacheKey key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt().isBefore(clock.instant())) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.itemCount());
+        }
+    }
+
+    /**
+     * @return The current generation, to be read before computing a count that is put in the cache
+     */
+    public long generation() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Stores a count, regardless of invalidations that happened while it was computed
+     */
+    public void put(@NonNull ItemCountCacheKey key, @NonNull ItemCount itemCount) {
+        var entry = new CacheEntry(itemCount, clock.instant().plus(timeToLive));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Stores a count, unless the cache was invalidated after the count started
+     *
+     * @param generation The {@link #generation()} from before the count started
+     * @return Whether the count was stored
+     */
+    public boolean put(@NonNull ItemCountCacheKey key, @NonNull ItemCount itemCount, long generation) {
+        var entry = new CacheEntry(itemCount, clock.instant().plus(timeToLive));
+        synchronized (entries) {
+            if (this.generation != generation) {
+                return false;
+            }
+            entries.put(key, entry);
+            return true;
+        }
+    }
+
+    /**
+     * Removes all cached counts that can be affected by a change to an entity of the given type
+     *
+     * @param entityType The type of the entity that was changed
+     */
+    public void invalidate(@NonNull Class<?> entityType) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(key -> key.dependsOn(entityType));
+        }
+    }
+
+    private record CacheEntry(ItemCount itemCount, Instant expiresAt) {
+
+    }
+}
@@ -0,0 +1,329 @@
+package com.contentgrid.spring.data.pagination.jpa.cache;
+
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.CollectionExpression;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.core.types.TemplateExpression;
+import com.querydsl.core.types.Visitor;
+import com.querydsl.jpa.JPQLQuery;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Identifies the result of a count query: the domain type that is counted, together with a normalized form of the
+ * query predicate.
+ * <p>
+ * Normalization makes the key independent of the order in which predicates are combined with {@code AND}, so the same
+ * collection filters in a different order map to the same key. Constants are rendered length-prefixed, so different
+ * predicates can never render to the same key.
+ * <p>
+ * A key can also represent only the <em>shape</em> of a query (see {@link #shapeOf(JPQLQuery)}), where all constant
+ * values are left out. Queries that only differ in the values they filter on have the same shape.
+ *
+ * @param domainType The root entity type of the query
+ * @param predicate Normalized rendering of the joins and the where-clause of the query
+ * @param referencedTypes Types of the root entity and of all paths that the query refers to, so entries can be
+ * invalidated when any of the entities they depend on change
+ */
+public record ItemCountCacheKey(
+        @NonNull
+        Class<?> domainType,
+        @NonNull
+        String predicate,
+        @NonNull
+        Set<Class<?>> referencedTypes
+) {
+
+    public ItemCountCacheKey {
+        referencedTypes = Set.copyOf(referencedTypes);
+    }
+
+    public ItemCountCacheKey(Class<?> domainType, String predicate) {
+        this(domainType, predicate, Set.of(domainType));
+    }
+
+    /**
+     * @return Whether the count of this key can be affected by a change to an entity of the given type
+     */
+    public boolean dependsOn(@NonNull Class<?> entityType) {
+        for (var referencedType : referencedTypes) {
+            if (referencedType.isAssignableFrom(entityType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a cache key for a count query
+     *
+     * @param query The query of which the results are counted
+     * @return The cache key, or an empty optional if the query does not have a single root entity that is counted
+     */
+    public static Optional<ItemCountCacheKey> of(JPQLQuery<?> query) {
+        return create(query, RenderingVisitor.WITH_CONSTANTS);
+    }
+
+    /**
+     * Creates a key for the shape of a count query, leaving out all constant values
+     *
+     * @param query The query of which the results are counted
+     * @return The query shape key, or an empty optional if the query does not have a single root entity that is
+     * counted
+     */
+    public static Optional<ItemCountCacheKey> shapeOf(JPQLQuery<?> query) {
+        return create(query, RenderingVisitor.SHAPE);
+    }
+
+    private static Optional<ItemCountCacheKey> create(JPQLQuery<?> query, RenderingVisitor visitor) {
+        var metadata = query.getMetadata();
+        var joins = metadata.getJoins();
+        if (joins.isEmpty() || !metadata.getGroupBy().isEmpty() || metadata.getHaving() != null) {
+            return Optional.empty();
+        }
+
+        var builder = new StringBuilder();
+        for (JoinExpression join : joins) {
+            builder.append(join.getType()).append(' ');
+            join.getTarget().accept(visitor, builder);
+            if (join.getCondition() != null) {
+                builder.append(" on ");
+                renderNormalized(join.getCondition(), visitor, builder);
+            }
+            builder.append('\n');
+        }
+
+        var where = metadata.getWhere();
+        if (where != null) {
+            builder.append("where ");
+            renderNormalized(where, visitor, builder);
+        }
+
+        var domainType = joins.get(0).getTarget().getType();
+        if (visitor == RenderingVisitor.SHAPE) {
+            return Optional.of(new ItemCountCacheKey(domainType, builder.toString()));
+        }
+        return Optional.of(new ItemCountCacheKey(domainType, builder.toString(), referencedTypes(metadata)));
+    }
+
+    private static Set<Class<?>> referencedTypes(QueryMetadata metadata) {
+        var types = new HashSet<Class<?>>();
+        ReferencedTypesVisitor.INSTANCE.visitMetadata(metadata, types);
+        return types;
+    }
+
+    private static void renderNormalized(Expression<?> predicate, RenderingVisitor visitor, StringBuilder builder) {
+        List<Expression<?>> conjuncts = new ArrayList<>();
+        collectConjuncts(predicate, conjuncts);
+
+        conjuncts.stream()
+                .map(conjunct -> {
+                    var conjunctBuilder = new StringBuilder();
+                    conjunct.accept(visitor, conjunctBuilder);
+                    return conjunctBuilder.toString();
+                })
+                .sorted()
+                .forEach(conjunct -> builder.append('[').append(conjunct).append(']'));
+    }
+
+    private static void collectConjuncts(Expression<?> expression, List<Expression<?>> conjuncts) {
+        if (expression instanceof Operation<?> operation && operation.getOperator() == Ops.AND) {
+            for (var arg : operation.getArgs()) {
+                collectConjuncts(arg, conjuncts);
+            }
+        } else {
+            conjuncts.add(expression);
+        }
+    }
+
+    /**
+     * Renders an expression to a string, in a form that unambiguously represents the expression
+     */
+    @RequiredArgsConstructor
+    private enum RenderingVisitor implements Visitor<Void, StringBuilder> {
+        WITH_CONSTANTS(true),
+        SHAPE(false);
+
+        private final boolean renderConstantValues;
+
+        @Override
+        public Void visit(Constant<?> expr, StringBuilder context) {
+            context.append("const<").append(expr.getType().getName());
+            if (renderConstantValues) {
+                var value = String.valueOf(expr.getConstant());
+                context.append(':')
+                        .append(value.length())
+                        .append(':')
+                        .append(value);
+            }
+            context.append('>');
+            return null;
+        }
+
+        @Override
+        public Void visit(FactoryExpression<?> expr, StringBuilder context) {
+            context.append("new ").append(expr.getType().getName());
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        @Override
+        public Void visit(Operation<?> expr, StringBuilder context) {
+            context.append(expr.getOperator().name());
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        @Override
+        public Void visit(ParamExpression<?> expr, StringBuilder context) {
+            context.append("param<").append(expr.getName()).append('>');
+            return null;
+        }
+
+        @Override
+        public Void visit(Path<?> expr, StringBuilder context) {
+            context.append("path<").append(expr.getType().getName()).append(':').append(expr).append('>');
+            return null;
+        }
+
+        @Override
+        public Void visit(SubQueryExpression<?> expr, StringBuilder context) {
+            // Subqueries are rendered in full; there is no use in normalizing them
+            var metadata = expr.getMetadata();
+            context.append("subquery(");
+            if (metadata.getProjection() != null) {
+                metadata.getProjection().accept(this, context);
+            }
+            for (var join : metadata.getJoins()) {
+                context.append(' ').append(join.getType()).append(' ');
+                join.getTarget().accept(this, context);
+                if (join.getCondition() != null) {
+                    context.append(" on ");
+                    join.getCondition().accept(this, context);
+                }
+            }
+            if (metadata.getWhere() != null) {
+                context.append(" where ");
+                metadata.getWhere().accept(this, context);
+            }
+            for (var groupBy : metadata.getGroupBy()) {
+                context.append(" group by ");
+                groupBy.accept(this, context);
+            }
+            if (metadata.getHaving() != null) {
+                context.append(" having ");
+                metadata.getHaving().accept(this, context);
+            }
+            context.append(')');
+            return null;
+        }
+
+        @Override
+        public Void visit(TemplateExpression<?> expr, StringBuilder context) {
+            context.append("template<").append(expr.getTemplate()).append('>');
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        private Void visitArgs(List<?> args, StringBuilder context) {
+            context.append('(');
+            for (int i = 0; i < args.size(); i++) {
+                if (i > 0) {
+                    context.append(',');
+                }
+                if (args.get(i) instanceof Expression<?> arg) {
+                    arg.accept(this, context);
+                } else if (renderConstantValues) {
+                    var value = String.valueOf(args.get(i));
+                    context.append(value.length()).append(':').append(value);
+                }
+            }
+            context.append(')');
+            return null;
+        }
+    }
+
+    /**
+     * Collects the types of all paths in an expression, including the types of their parent paths and collection
+     * elements
+     */
+    private enum ReferencedTypesVisitor implements Visitor<Void, Set<Class<?>>> {
+        INSTANCE;
+
+        @Override
+        public Void visit(Constant<?> expr, Set<Class<?>> context) {
+            return null;
+        }
+
+        @Override
+        public Void visit(FactoryExpression<?> expr, Set<Class<?>> context) {
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        @Override
+        public Void visit(Operation<?> expr, Set<Class<?>> context) {
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        @Override
+        public Void visit(ParamExpression<?> expr, Set<Class<?>> context) {
+            return null;
+        }
+
+        @Override
+        public Void visit(Path<?> expr, Set<Class<?>> context) {
+            for (Path<?> path = expr; path != null; path = path.getMetadata().getParent()) {
+                context.add(path.getType());
+                if (path instanceof CollectionExpression<?, ?> collection) {
+                    context.add(collection.getParameter(0));
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(SubQueryExpression<?> expr, Set<Class<?>> context) {
+            visitMetadata(expr.getMetadata(), context);
+            return null;
+        }
+
+        @Override
+        public Void visit(TemplateExpression<?> expr, Set<Class<?>> context) {
+            return visitArgs(expr.getArgs(), context);
+        }
+
+        void visitMetadata(QueryMetadata metadata, Set<Class<?>> context) {
+            for (var join : metadata.getJoins()) {
+                join.getTarget().accept(this, context);
+                if (join.getCondition() != null) {
+                    join.getCondition().accept(this, context);
+                }
+            }
+            if (metadata.getWhere() != null) {
+                metadata.getWhere().accept(this, context);
+            }
+            if (metadata.getHaving() != null) {
+                metadata.getHaving().accept(this, context);
+            }
+        }
+
+        private Void visitArgs(List<?> args, Set<Class<?>> context) {
+            for (var arg : args) {
+                if (arg instanceof Expression<?> expression) {
+                    expression.accept(this, context);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.contentgrid.spring.data.pagination.jpa.hibernate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.hibernate.dialect.PostgreSQLDialect;
@@ -8,6 +9,8 @@ public class CountExplainPostgreSQLDialect extends PostgreSQLDialect {
 
     public static final String COUNT_EXPLAIN_HINT = "count_explain_estimate";
 
+    private static final String STATEMENT_TIMEOUT_SAVEPOINT = "contentgrid_statement_timeout";
+
     @Override
     public String getQueryHintString(String query, List<String> hintList) {
         var hints = new ArrayList<>(hintList);
@@ -20,4 +23,46 @@ public class CountExplainPostgreSQLDialect extends PostgreSQLDialect {
 
         return queryWithHints;
     }
+
+    /**
+     * SQL that returns the current statement timeout, which can be restored with
+     * {@link #getRestoreLocalStatementTimeoutString(String)}
+     */
+    public String getCurrentStatementTimeoutQuery() {
+        return "SHOW statement_timeout";
+    }
+
+    /**
+     * SQL that limits the execution time of the statements that follow it in the current transaction, with
+     * millisecond precision.
+     * <p>
+     * The limit is set in a savepoint, so {@link #getResetLocalStatementTimeoutString()} can recover the transaction
+     * when a statement was cancelled because of the timeout. Everything that is written after the savepoint is undone
+     * by that reset, so pending changes must be flushed before.
+     */
+    public String getLocalStatementTimeoutString(Duration timeout) {
+        // A timeout of 0 disables the timeout; so it must be at least 1 ms
+        return "SAVEPOINT %s; SET LOCAL statement_timeout = %d".formatted(STATEMENT_TIMEOUT_SAVEPOINT,
+                Math.max(1, timeout.toMillis()));
+    }
+
+    /**
+     * SQL that restores the statement timeout set by {@link #getLocalStatementTimeoutString(Duration)} to its previous
+     * value, and keeps the changes that were made after the savepoint
+     *
+     * @param previousTimeout The statement timeout returned by {@link #getCurrentStatementTimeoutQuery()}
+     */
+    public String getRestoreLocalStatementTimeoutString(String previousTimeout) {
+        return "SET LOCAL statement_timeout = '%s'; RELEASE SAVEPOINT %s".formatted(
+                previousTimeout.replace("'", "''"), STATEMENT_TIMEOUT_SAVEPOINT);
+    }
+
+    /**
+     * SQL that recovers the transaction after a statement was cancelled because of the timeout set by
+     * {@link #getLocalStatementTimeoutString(Duration)}, and resets the statement timeout to its previous value
+     */
+    public String getResetLocalStatementTimeoutString() {
+        // Rolling back to the savepoint also undoes the SET LOCAL
+        return "ROLLBACK TO SAVEPOINT %1$s; RELEASE SAVEPOINT %1$s".formatted(STATEMENT_TIMEOUT_SAVEPOINT);
+    }
 }
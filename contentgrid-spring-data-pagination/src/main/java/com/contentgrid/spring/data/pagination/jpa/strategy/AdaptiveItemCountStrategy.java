@@ -0,0 +1,140 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCacheKey;
+import com.querydsl.jpa.JPQLQuery;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Learns, per domain type and query shape, whether an exact count can be performed in time.
+ * <p>
+ * The exact counting strategy is tried first. When it repeatedly fails to produce a count (because it timed out) for
+ * the same query shape, the exact count is skipped and the estimate strategy is used directly. Once per probe
+ * interval, a single request still tries the exact count, so the query shape can recover when counting becomes fast
+ * again.
+ * <p>
+ * Query shapes ignore the values that are filtered on (see {@link ItemCountCacheKey#shapeOf(JPQLQuery)}), so
+ * knowledge is shared between requests with the same collection filters but different filter values.
+ */
+@Slf4j
+public class AdaptiveItemCountStrategy implements JpaQuerydslItemCountStrategy {
+
+    private final JpaQuerydslItemCountStrategy exact;
+
+    private final JpaQuerydslItemCountStrategy estimate;
+
+    private final int failureThreshold;
+
+    private final Duration probeInterval;
+
+    private final Clock clock;
+
+    private final Map<ItemCountCacheKey, ShapeHistory> histories;
+
+    public AdaptiveItemCountStrategy(
+            JpaQuerydslItemCountStrategy exact,
+            JpaQuerydslItemCountStrategy estimate,
+            int failureThreshold,
+            Duration probeInterval,
+            int maximumShapes
+    ) {
+        this(exact, estimate, failureThreshold, probeInterval, maximumShapes, Clock.systemUTC());
+    }
+
+    AdaptiveItemCountStrategy(
+            @NonNull JpaQuerydslItemCountStrategy exact,
+            @NonNull JpaQuerydslItemCountStrategy estimate,
+            int failureThreshold,
+            @NonNull Duration probeInterval,
+            int maximumShapes,
+            @NonNull Clock clock
+    ) {
+        this.exact = exact;
+        this.estimate = estimate;
+        this.failureThreshold = failureThreshold;
+        this.probeInterval = probeInterval;
+        this.clock = clock;
+        this.histories = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ItemCountCacheKey, ShapeHistory> eldest) {
+                return size() > maximumShapes;
+            }
+        };
+    }
+
+    @Override
+    public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
+        var maybeShape = ItemCountCacheKey.shapeOf(jpqlQuerySupplier.get());
+        if (maybeShape.isEmpty()) {
+            return exact.countQuery(jpqlQuerySupplier)
+                    .or(() -> estimate.countQuery(jpqlQuerySupplier));
+        }
+
+        var shape = maybeShape.get();
+        var history = history(shape);
+
+        if (history.shouldCountExactly(clock.instant())) {
+            var result = exact.countQuery(jpqlQuerySupplier)
+                    .filter(itemCount -> !itemCount.isEstimated());
+            if (result.isPresent()) {
+                history.recordSuccess();
+                return result;
+            }
+            if (history.recordFailure(clock.instant())) {
+                log.debug("Exact count for {} failed {} times; using estimates", shape.domainType().getName(),
+                        failureThreshold);
+            }
+        }
+
+        return estimate.countQuery(jpqlQuerySupplier);
+    }
+
+    private ShapeHistory history(ItemCountCacheKey shape) {
+        synchronized (histories) {
+            return histories.computeIfAbsent(shape, key -> new ShapeHistory());
+        }
+    }
+
+    private class ShapeHistory {
+
+        private int consecutiveFailures = 0;
+
+        private Instant nextProbe = Instant.MIN;
+
+        synchronized boolean shouldCountExactly(Instant now) {
+            if (consecutiveFailures < failureThreshold) {
+                return true;
+            }
+            if (!now.isBefore(nextProbe)) {
+                // Only one request probes per interval
+                nextProbe = now.plus(probeInterval);
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void recordSuccess() {
+            consecutiveFailures = 0;
+        }
+
+        /**
+         * @return Whether the failure threshold was reached by this failure
+         */
+        synchronized boolean recordFailure(Instant now) {
+            consecutiveFailures++;
+            if (consecutiveFailures == failureThreshold) {
+                nextProbe = now.plus(probeInterval);
+                return true;
+            }
+            return false;
+        }
+    }
+}
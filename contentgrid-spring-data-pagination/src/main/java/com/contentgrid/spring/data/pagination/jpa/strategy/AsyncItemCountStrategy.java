@@ -0,0 +1,128 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCacheKey;
+import com.querydsl.jpa.JPQLQuery;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Runs an (exact) counting strategy on a separate executor, and waits for its result for at most a fixed budget.
+ * <p>
+ * When the count is not available within the budget, the fallback strategy is used instead. The count continues in the
+ * background, and its exact result is cached, so a later request with the same query receives the exact count
+ * directly. Concurrent requests for the same query share a single background count.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncItemCountStrategy implements JpaQuerydslItemCountStrategy {
+
+    @NonNull
+    private final JpaQuerydslItemCountStrategy delegate;
+
+    @NonNull
+    private final JpaQuerydslItemCountStrategy fallback;
+
+    /**
+     * The background count runs in its own (read-only) transaction
+     */
+    @NonNull
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Not owned by this strategy: shutting it down is up to the caller
+     */
+    @NonNull
+    private final ExecutorService executor;
+
+    @NonNull
+    private final Duration budget;
+
+    @NonNull
+    private final ItemCountCache cache;
+
+    private final Map<ItemCountCacheKey, CompletableFuture<Optional<ItemCount>>> runningCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
+        // The query is created on the calling thread, so it is built with the same context as the query for the page
+        var query = jpqlQuerySupplier.get();
+        var maybeCacheKey = ItemCountCacheKey.of(query);
+        if (maybeCacheKey.isEmpty()) {
+            return fallback.countQuery(jpqlQuerySupplier);
+        }
+        var cacheKey = maybeCacheKey.get();
+
+        var cached = cache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        try {
+            var result = startOrJoinCount(cacheKey, query).get(budget.toNanos(), TimeUnit.NANOSECONDS);
+            if (result.isPresent()) {
+                return result;
+            }
+        } catch (TimeoutException e) {
+            // Count is still running, it will be cached when it completes
+            log.debug("Count for {} did not complete within {}", cacheKey.domainType().getName(), budget);
+        } catch (ExecutionException e) {
+            log.warn("Count for {} failed", cacheKey.domainType().getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return fallback.countQuery(jpqlQuerySupplier);
+    }
+
+    private CompletableFuture<Optional<ItemCount>> startOrJoinCount(ItemCountCacheKey cacheKey, JPQLQuery<?> query) {
+        var future = new CompletableFuture<Optional<ItemCount>>();
+        var runningFuture = runningCounts.putIfAbsent(cacheKey, future);
+        if (runningFuture != null) {
+            return runningFuture;
+        }
+
+        // Read before the count starts, so the count is not cached when the cache is invalidated while it runs
+        var generation = cache.generation();
+        try {
+            executor.execute(() -> runCount(cacheKey, query, generation, future));
+        } catch (RejectedExecutionException e) {
+            log.debug("Count for {} was rejected; too many counts are running", cacheKey.domainType().getName());
+            runningCounts.remove(cacheKey, future);
+            future.complete(Optional.empty());
+        }
+        return future;
+    }
+
+    private void runCount(ItemCountCacheKey cacheKey, JPQLQuery<?> query, long generation,
+            CompletableFuture<Optional<ItemCount>> future) {
+        try {
+            var result = Objects.requireNonNullElse(
+                    transactionOperations.execute(status -> delegate.countQuery(() -> query)),
+                    Optional.<ItemCount>empty()
+            );
+            result.filter(itemCount -> !itemCount.isEstimated())
+                    .ifPresent(itemCount -> cache.put(cacheKey, itemCount, generation));
+            future.complete(result);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            runningCounts.remove(cacheKey, future);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCacheKey;
+import com.querydsl.jpa.JPQLQuery;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves counts from an {@link ItemCountCache}, and caches the exact counts of the delegate strategy.
+ * <p>
+ * Estimated counts are never cached. Cached counts must be invalidated with {@link ItemCountCache#invalidate(Class)}
+ * when entities are changed; the time-to-live of the cache only limits how long a missed invalidation can be visible.
+ * A count is not cached when an invalidation happened while it was running. The cache is not shared between instances
+ * of the application, so changes made through another instance are only visible after the time-to-live.
+ */
+@RequiredArgsConstructor
+public class CachingItemCountStrategy implements JpaQuerydslItemCountStrategy {
+
+    @NonNull
+    private final JpaQuerydslItemCountStrategy delegate;
+
+    @NonNull
+    private final ItemCountCache cache;
+
+    @Override
+    public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
+        var maybeCacheKey = ItemCountCacheKey.of(jpqlQuerySupplier.get());
+        if (maybeCacheKey.isEmpty()) {
+            return delegate.countQuery(jpqlQuerySupplier);
+        }
+        var cacheKey = maybeCacheKey.get();
+
+        var cached = cache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        var generation = cache.generation();
+        var result = delegate.countQuery(jpqlQuerySupplier);
+        result.filter(itemCount -> !itemCount.isEstimated())
+                .ifPresent(itemCount -> cache.put(cacheKey, itemCount, generation));
+        return result;
+    }
+}
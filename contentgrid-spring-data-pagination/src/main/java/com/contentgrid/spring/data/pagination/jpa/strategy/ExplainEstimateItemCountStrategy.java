@@ -2,15 +2,10 @@ package com.contentgrid.spring.data.pagination.jpa.strategy;
 
 import com.contentgrid.spring.data.pagination.ItemCount;
 import com.contentgrid.spring.data.pagination.jpa.hibernate.CountExplainPostgreSQLDialect;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import jakarta.persistence.CacheStoreMode;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -26,8 +21,6 @@ public class ExplainEstimateItemCountStrategy implements JpaQuerydslItemCountStr
 
     private static final String PLACEHOLDER = "placeholder";
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Override
     @SneakyThrows
     public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
@@ -61,29 +54,14 @@ public class ExplainEstimateItemCountStrategy implements JpaQuerydslItemCountStr
                 return Optional.empty();
             }
 
-            var queryPlan = objectMapper.readValue(queryPlanString,
-                    new TypeReference<List<RootQueryPlan>>() {
-                    });
+            var planRows = QueryPlanRows.extract(queryPlanString);
+            if (planRows.isEmpty()) {
+                log.warn("Query plan does not contain an estimated number of rows. Can not perform estimate count");
+                return Optional.empty();
+            }
 
-            return Optional.of(ItemCount.estimated(queryPlan.get(0).plan().planRows()));
+            return Optional.of(ItemCount.estimated(planRows.getAsLong()));
         }
         return Optional.empty();
     }
-
-
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private record RootQueryPlan(
-            @JsonProperty("Plan")
-            QueryPlan plan
-    ) {
-
-    }
-
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private record QueryPlan(
-            @JsonProperty("Plan Rows")
-            long planRows
-    ) {
-
-    }
 }
@@ -0,0 +1,59 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.OptionalLong;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Extracts the estimated number of rows from the output of PostgreSQL {@code EXPLAIN (FORMAT JSON)}.
+ * <p>
+ * Only the top-level {@code Plan Rows} is needed, so the plan is streamed until that field instead of deserializing
+ * the complete plan tree.
+ */
+@UtilityClass
+public class QueryPlanRows {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String PLAN_ROWS = "Plan Rows";
+
+    /**
+     * Nesting depth of the top-level plan node: the array of plans, the root object and its {@code Plan} object
+     */
+    private static final int ROOT_PLAN_DEPTH = 3;
+
+    /**
+     * @param queryPlan The JSON output of {@code EXPLAIN (FORMAT JSON)}
+     * @return The estimated number of rows of the top-level plan node, or an empty optional if it is not present
+     * @throws IOException When the query plan is not valid JSON
+     */
+    public static OptionalLong extract(@NonNull String queryPlan) throws IOException {
+        try (var parser = JSON_FACTORY.createParser(queryPlan)) {
+            int depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> depth++;
+                    case END_OBJECT, END_ARRAY -> depth--;
+                    case FIELD_NAME -> {
+                        if (depth == ROOT_PLAN_DEPTH && PLAN_ROWS.equals(parser.currentName())) {
+                            parser.nextToken();
+                            return OptionalLong.of(parser.getValueAsLong());
+                        }
+                        if (depth >= ROOT_PLAN_DEPTH) {
+                            // Nested plans and other values of the plan node are not needed
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCacheKey;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+/**
+ * Estimates the number of items in an unfiltered collection from the PostgreSQL table statistics, without planning
+ * a query.
+ * <p>
+ * The live tuple count from {@code pg_stat_user_tables} is used, falling back to {@code pg_class.reltuples}. Tables
+ * that have never been vacuumed or analyzed are skipped, because they have no reliable statistics yet. Estimates are
+ * cached for a short time.
+ * <p>
+ * Only queries on a single entity without any filters are handled, and only for entities that have their own table
+ * without subclasses sharing it. Like the {@code EXPLAIN} estimate, this strategy only provides an estimate when the
+ * exact count did not complete in time; it is tried before the {@code EXPLAIN} estimate, because it does not need a
+ * query plan.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class TableStatisticsItemCountStrategy implements JpaQuerydslItemCountStrategy {
+
+    private static final Object UNFILTERED = ExpressionUtils.extract(Expressions.TRUE);
+
+    private static final String TABLE_STATISTICS_QUERY = """
+            SELECT c.reltuples, s.n_live_tup
+            FROM pg_catalog.pg_class c
+            LEFT JOIN pg_catalog.pg_stat_user_tables s ON s.relid = c.oid
+            WHERE c.oid = to_regclass(?) AND c.relkind = 'r'
+            """;
+
+    /**
+     * Shared entity manager, bound to the transaction of the query that is counted
+     */
+    @NonNull
+    private final EntityManager entityManager;
+
+    @NonNull
+    private final ItemCountCache cache;
+
+    @Override
+    public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
+        var jpqlQuery = jpqlQuerySupplier.get();
+        if (!(jpqlQuery instanceof JPAQuery<?> jpaQuery) || !isUnfiltered(jpaQuery)) {
+            return Optional.empty();
+        }
+
+        var domainType = jpaQuery.getMetadata().getJoins().get(0).getTarget().getType();
+        var cacheKey = new ItemCountCacheKey(domainType, "");
+        var cached = cache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        var session = entityManager.unwrap(Session.class);
+        var itemCount = readTableStatistics(session, domainType);
+        itemCount.ifPresent(count -> cache.put(cacheKey, count));
+        return itemCount;
+    }
+
+    private static boolean isUnfiltered(JPAQuery<?> jpaQuery) {
+        var metadata = jpaQuery.getMetadata();
+        var where = metadata.getWhere();
+        return metadata.getJoins().size() == 1
+                && metadata.getJoins().get(0).getCondition() == null
+                && metadata.getGroupBy().isEmpty()
+                && metadata.getHaving() == null
+                && (where == null || UNFILTERED.equals(where));
+    }
+
+    private static Optional<ItemCount> readTableStatistics(Session session,
+            Class<?> domainType) {
+        var factory = session.getSessionFactory().unwrap(SessionFactoryImplementor.class);
+        if (!(factory.getJdbcServices().getDialect() instanceof PostgreSQLDialect)) {
+            return Optional.empty();
+        }
+
+        var persister = factory.getMappingMetamodel().findEntityDescriptor(domainType);
+        if (!(persister instanceof AbstractEntityPersister entityPersister)
+                || entityPersister.isInherited()
+                || entityPersister.getEntityMetamodel().hasSubclasses()) {
+            // Other entities are stored in the same table(s); the table statistics do not apply to this entity
+            return Optional.empty();
+        }
+
+        var tableName = entityPersister.getTableName();
+        return session.<Optional<ItemCount>>doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(TABLE_STATISTICS_QUERY)) {
+                statement.setString(1, tableName);
+                try (var resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        log.debug("No table statistics found for table {}", tableName);
+                        return Optional.empty();
+                    }
+                    var relTuples = resultSet.getFloat(1);
+                    var liveTuples = resultSet.getLong(2);
+                    var hasLiveTuples = !resultSet.wasNull();
+                    if (relTuples < 0) {
+                        // Table has never been vacuumed or analyzed
+                        return Optional.empty();
+                    }
+                    return Optional.of(ItemCount.estimated(hasLiveTuples ? liveTuples : (long) relTuples));
+                }
+            }
+        });
+    }
+}
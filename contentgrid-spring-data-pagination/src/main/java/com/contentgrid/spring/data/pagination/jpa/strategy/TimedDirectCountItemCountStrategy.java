@@ -1,33 +1,129 @@
 package com.contentgrid.spring.data.pagination.jpa.strategy;
 
 import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.hibernate.CountExplainPostgreSQLDialect;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import jakarta.persistence.QueryTimeoutException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
-import org.hibernate.query.Query;
+import lombok.NonNull;
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryImplementor;
 
+/**
+ * Performs an exact count, which is abandoned when it takes longer than a timeout.
+ * <p>
+ * The timeout can be configured per entity, by the entity class name or its fully qualified name. On PostgreSQL, inside
+ * a transaction, the timeout is enforced with millisecond precision with a local {@code statement_timeout}. Otherwise,
+ * the JDBC query timeout is used, which has a precision of seconds. Pending changes of the session are flushed before
+ * the local timeout is set, so they are not lost when the transaction is recovered from a timeout.
+ */
 public class TimedDirectCountItemCountStrategy implements JpaQuerydslItemCountStrategy {
 
+    private final Duration defaultTimeout;
+
+    private final Map<String, Duration> entityTimeouts;
+
+    public TimedDirectCountItemCountStrategy() {
+        this(Duration.ofSeconds(1), Map.of());
+    }
+
+    /**
+     * @param defaultTimeout Timeout for counting entities that have no specific timeout
+     * @param entityTimeouts Timeouts for specific entities, by entity class name or fully qualified class name
+     */
+    public TimedDirectCountItemCountStrategy(@NonNull Duration defaultTimeout,
+            @NonNull Map<String, Duration> entityTimeouts) {
+        this.defaultTimeout = defaultTimeout;
+        this.entityTimeouts = Map.copyOf(entityTimeouts);
+    }
+
     @Override
     public Optional<ItemCount> countQuery(Supplier<JPQLQuery<?>> jpqlQuerySupplier) {
         var jpqlQuery = jpqlQuerySupplier.get();
         if (jpqlQuery instanceof JPAQuery<?> jpaQuery) {
+            var timeout = timeoutFor(jpaQuery);
             var query = jpaQuery.select(Expressions.numberTemplate(Long.class, "count(*)"))
                     .createQuery()
-                    .unwrap(Query.class);
-            query.setTimeout(1); // timeout in seconds; hibernate rounds the JPA timeout hint to seconds anyways
-
-            try {
-                long count = (long) query.getSingleResult();
-                return Optional.of(ItemCount.exact(count));
-            } catch (QueryTimeoutException ex) {
-                // Query timed out; no count (return below)
+                    .unwrap(QueryImplementor.class);
+
+            var session = query.getSession();
+            if (session.getFactory().getJdbcServices().getDialect() instanceof CountExplainPostgreSQLDialect dialect
+                    && session.isTransactionInProgress()) {
+                return countWithLocalStatementTimeout(query, session, dialect, timeout);
             }
 
+            // timeout in seconds; hibernate rounds the JPA timeout hint to seconds anyways
+            query.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+            return count(query);
         }
         return Optional.empty();
     }
+
+    private Duration timeoutFor(JPAQuery<?> jpaQuery) {
+        var joins = jpaQuery.getMetadata().getJoins();
+        if (joins.isEmpty() || entityTimeouts.isEmpty()) {
+            return defaultTimeout;
+        }
+        var domainType = joins.get(0).getTarget().getType();
+        var timeout = entityTimeouts.get(domainType.getName());
+        if (timeout == null) {
+            timeout = entityTimeouts.getOrDefault(domainType.getSimpleName(), defaultTimeout);
+        }
+        return timeout;
+    }
+
+    private static Optional<ItemCount> countWithLocalStatementTimeout(QueryImplementor<?> query,
+            SharedSessionContractImplementor session, CountExplainPostgreSQLDialect dialect, Duration timeout) {
+        // Changes that are flushed inside the savepoint would be lost when rolling back to it after a timeout
+        if (session instanceof SessionImplementor sessionImplementor
+                && !sessionImplementor.getHibernateFlushMode().lessThan(FlushMode.AUTO)) {
+            sessionImplementor.flush();
+        }
+        query.setHibernateFlushMode(FlushMode.MANUAL);
+
+        var previousTimeout = session.doReturningWork(connection -> {
+            try (var statement = connection.createStatement()) {
+                String current;
+                try (var resultSet = statement.executeQuery(dialect.getCurrentStatementTimeoutQuery())) {
+                    resultSet.next();
+                    current = resultSet.getString(1);
+                }
+                statement.execute(dialect.getLocalStatementTimeoutString(timeout));
+                return current;
+            }
+        });
+
+        Optional<ItemCount> result = Optional.empty();
+        try {
+            result = count(query);
+            return result;
+        } finally {
+            // Only roll back to the savepoint when the count failed; the transaction can not be used otherwise
+            var reset = result.isPresent()
+                    ? dialect.getRestoreLocalStatementTimeoutString(previousTimeout)
+                    : dialect.getResetLocalStatementTimeoutString();
+            session.doWork(connection -> {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(reset);
+                }
+            });
+        }
+    }
+
+    private static Optional<ItemCount> count(QueryImplementor<?> query) {
+        try {
+            long count = (long) query.getSingleResult();
+            return Optional.of(ItemCount.exact(count));
+        } catch (QueryTimeoutException ex) {
+            // Query timed out; no count
+            return Optional.empty();
+        }
+    }
 }
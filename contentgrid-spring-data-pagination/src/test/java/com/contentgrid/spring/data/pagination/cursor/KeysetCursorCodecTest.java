@@ -0,0 +1,107 @@
+package com.contentgrid.spring.data.pagination.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.spring.data.pagination.KeysetPageRequest;
+import com.contentgrid.spring.data.pagination.KeysetPageRequest.Keyset;
+import com.contentgrid.spring.data.pagination.cursor.CursorCodec.CursorContext;
+import com.contentgrid.spring.data.pagination.cursor.CursorCodec.CursorDecodeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class KeysetCursorCodecTest {
+
+    CursorCodec codec = new KeysetCursorCodec();
+
+    private static final Sort SORT = Sort.by(Order.asc("abc"), Order.desc("def"));
+    private static final UriComponents URI_COMPONENTS = UriComponentsBuilder.newInstance().build();
+
+    @Test
+    void decodeCursorFromNull() throws CursorDecodeException {
+        var pageable = codec.decodeCursor(CursorContext.builder().cursor(null).pageSize(15).sort(SORT).build(),
+                URI_COMPONENTS);
+
+        assertThat(pageable).isInstanceOfSatisfying(KeysetPageRequest.class, keysetPageRequest -> {
+            assertThat(keysetPageRequest.getKeyset()).isNull();
+        });
+        assertThat(pageable.getPageSize()).isEqualTo(15);
+        assertThat(pageable.getPageNumber()).isEqualTo(0);
+        assertThat(pageable.getSort()).isEqualTo(SORT);
+    }
+
+    @Test
+    void encodeAndDecodeKeyset() throws CursorDecodeException {
+        var id = UUID.randomUUID();
+        var instant = Instant.parse("2024-03-01T12:34:56.789Z");
+        var pageable = new KeysetPageRequest(3, 20, SORT, Keyset.after(Arrays.asList("Abc", null, instant, 5, id)));
+
+        var cursor = codec.encodeCursor(pageable, URI_COMPONENTS);
+
+        assertThat(cursor.pageSize()).isEqualTo(20);
+        assertThat(cursor.sort()).isEqualTo(SORT);
+
+        var decoded = codec.decodeCursor(cursor, URI_COMPONENTS);
+
+        assertThat(decoded).isInstanceOfSatisfying(KeysetPageRequest.class, keysetPageRequest -> {
+            assertThat(keysetPageRequest.getPageNumber()).isEqualTo(3);
+            assertThat(keysetPageRequest.getPageSize()).isEqualTo(20);
+            assertThat(keysetPageRequest.getSort()).isEqualTo(SORT);
+            // Values are decoded as their string representation
+            assertThat(keysetPageRequest.getKeyset()).isEqualTo(
+                    Keyset.after(Arrays.asList("Abc", null, instant.toString(), "5", id.toString())));
+        });
+    }
+
+    @Test
+    void encodeAndDecodeBackwardKeyset() throws CursorDecodeException {
+        var pageable = new KeysetPageRequest(1, 20, SORT, Keyset.before(List.of("xyz", 8L)));
+
+        var decoded = codec.decodeCursor(codec.encodeCursor(pageable, URI_COMPONENTS), URI_COMPONENTS);
+
+        assertThat(decoded).isInstanceOfSatisfying(KeysetPageRequest.class, keysetPageRequest -> {
+            assertThat(keysetPageRequest.getPageNumber()).isEqualTo(1);
+            assertThat(keysetPageRequest.getKeyset()).isEqualTo(Keyset.before(List.of("xyz", "8")));
+        });
+    }
+
+    @Test
+    void encodeAndDecodePageRequest() throws CursorDecodeException {
+        var decoded = codec.decodeCursor(codec.encodeCursor(PageRequest.of(12, 34, SORT), URI_COMPONENTS),
+                URI_COMPONENTS);
+
+        assertThat(decoded).isInstanceOfSatisfying(KeysetPageRequest.class, keysetPageRequest -> {
+            assertThat(keysetPageRequest.getPageNumber()).isEqualTo(12);
+            assertThat(keysetPageRequest.getPageSize()).isEqualTo(34);
+            assertThat(keysetPageRequest.getKeyset()).isNull();
+        });
+    }
+
+    @Test
+    void decodeInvalidCursor() {
+        assertThatThrownBy(() -> {
+            codec.decodeCursor(CursorContext.builder().cursor("$$$").pageSize(15).sort(SORT).build(),
+                    URI_COMPONENTS);
+        }).isInstanceOf(CursorDecodeException.class);
+    }
+
+    @Test
+    void decodeTruncatedCursor() {
+        var cursor = codec.encodeCursor(new KeysetPageRequest(1, 15, SORT, Keyset.after(List.of("abc", 1))),
+                URI_COMPONENTS).cursor();
+
+        assertThatThrownBy(() -> {
+            codec.decodeCursor(CursorContext.builder().cursor(cursor.substring(0, cursor.length() - 3)).pageSize(15)
+                    .sort(SORT).build(), URI_COMPONENTS);
+        }).isInstanceOf(CursorDecodeException.class);
+    }
+
+}
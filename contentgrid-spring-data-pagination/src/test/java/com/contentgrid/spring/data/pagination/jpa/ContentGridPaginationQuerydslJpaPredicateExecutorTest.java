@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.contentgrid.spring.data.pagination.ItemCount;
 import com.contentgrid.spring.data.pagination.ItemCountPage;
+import com.contentgrid.spring.data.pagination.KeysetPageRequest;
 import com.contentgrid.spring.data.pagination.jpa.strategy.JpaQuerydslItemCountStrategy;
 import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
 import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
@@ -11,6 +12,7 @@ import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
 import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,7 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.querydsl.QSort;
 
 @SpringBootTest(classes = InvoicingApplication.class)
 class ContentGridPaginationQuerydslJpaPredicateExecutorTest {
@@ -127,4 +131,89 @@ class ContentGridPaginationQuerydslJpaPredicateExecutorTest {
         });
     }
 
+    @Test
+    void keysetResultsOnNextPage() {
+        Mockito.when(mockCountingStrategy.countQuery(Mockito.any()))
+                .thenReturn(Optional.empty());
+
+        var predicate = QCustomer.customer.vat.startsWith("VAT");
+        var sort = new QSort(QCustomer.customer.name.desc());
+
+        Page<Customer> firstPage = customerRepository.findAll(predicate, KeysetPageRequest.of(10, sort));
+        Page<Customer> nextPage = customerRepository.findAll(predicate, firstPage.nextPageable());
+        Page<Customer> lastPage = customerRepository.findAll(predicate, nextPage.nextPageable());
+
+        assertThat(nextPage.getPageable()).isInstanceOfSatisfying(KeysetPageRequest.class, pageable -> {
+            assertThat(pageable.getKeyset()).isNotNull();
+        });
+
+        assertThat(firstPage).isInstanceOfSatisfying(ItemCountPage.class, page -> {
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.hasPrevious()).isFalse();
+            assertThat(page.getTotalItemCount()).isEqualTo(ItemCount.estimated(11));
+        });
+
+        assertThat(nextPage).isInstanceOfSatisfying(ItemCountPage.class, page -> {
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.hasPrevious()).isTrue();
+            assertThat(page.getTotalItemCount()).isEqualTo(ItemCount.estimated(21));
+        });
+
+        assertThat(lastPage).isInstanceOfSatisfying(ItemCountPage.class, page -> {
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.hasPrevious()).isTrue();
+            assertThat(page.getTotalItemCount()).isEqualTo(ItemCount.exact(25));
+        });
+
+        // Seeking must visit exactly the same items in the same order as the offset-based query
+        var expected = customerRepository.findAll(predicate, PageRequest.of(0, 25, sort));
+        assertThat(Stream.of(firstPage, nextPage, lastPage).flatMap(Page::stream).map(Customer::getName))
+                .containsExactlyElementsOf(expected.map(Customer::getName));
+    }
+
+    @Test
+    void keysetResultsOnPreviousPage() {
+        Mockito.when(mockCountingStrategy.countQuery(Mockito.any()))
+                .thenReturn(Optional.empty());
+
+        var predicate = QCustomer.customer.vat.startsWith("VAT");
+        var sort = new QSort(QCustomer.customer.name.asc());
+
+        Page<Customer> firstPage = customerRepository.findAll(predicate, KeysetPageRequest.of(10, sort));
+        Page<Customer> nextPage = customerRepository.findAll(predicate, firstPage.nextPageable());
+        Page<Customer> lastPage = customerRepository.findAll(predicate, nextPage.nextPageable());
+
+        Page<Customer> previousPage = customerRepository.findAll(predicate, lastPage.previousPageable());
+        Page<Customer> firstPageAgain = customerRepository.findAll(predicate, previousPage.previousPageable());
+
+        assertThat(previousPage.getNumber()).isEqualTo(1);
+        assertThat(previousPage.hasPrevious()).isTrue();
+        assertThat(previousPage.hasNext()).isTrue();
+        assertThat(previousPage.map(Customer::getId)).containsExactlyElementsOf(nextPage.map(Customer::getId));
+
+        assertThat(firstPageAgain.getNumber()).isEqualTo(0);
+        assertThat(firstPageAgain.hasPrevious()).isFalse();
+        assertThat(firstPageAgain.hasNext()).isTrue();
+        assertThat(firstPageAgain.map(Customer::getId)).containsExactlyElementsOf(firstPage.map(Customer::getId));
+    }
+
+    @Test
+    void keysetResultsWithNullAndDuplicateSortKeys() {
+        Mockito.when(mockCountingStrategy.countQuery(Mockito.any()))
+                .thenReturn(Optional.empty());
+
+        var predicate = QCustomer.customer.vat.startsWith("VAT");
+        // Gender is null for all customers; the id is used as tie-breaker
+        var sort = new QSort(QCustomer.customer.gender.asc());
+
+        Page<Customer> firstPage = customerRepository.findAll(predicate, KeysetPageRequest.of(10, sort));
+        Page<Customer> nextPage = customerRepository.findAll(predicate, firstPage.nextPageable());
+        Page<Customer> lastPage = customerRepository.findAll(predicate, nextPage.nextPageable());
+
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(Stream.of(firstPage, nextPage, lastPage).flatMap(Page::stream).map(Customer::getId))
+                .hasSize(25)
+                .doesNotHaveDuplicates();
+    }
+
 }
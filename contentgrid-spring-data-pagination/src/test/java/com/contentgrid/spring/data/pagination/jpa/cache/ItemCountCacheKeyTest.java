@@ -0,0 +1,77 @@
+package com.contentgrid.spring.data.pagination.jpa.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.model.Invoice;
+import com.contentgrid.spring.test.fixture.invoicing.model.Order;
+import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
+import com.contentgrid.spring.test.fixture.invoicing.model.QInvoice;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.junit.jupiter.api.Test;
+
+class ItemCountCacheKeyTest {
+
+    private static final QCustomer CUSTOMER = QCustomer.customer;
+
+    @Test
+    void keyContainsDomainType() {
+        assertThat(ItemCountCacheKey.of(new JPAQuery<>().from(CUSTOMER).select(CUSTOMER)))
+                .hasValueSatisfying(key -> assertThat(key.domainType()).isEqualTo(Customer.class));
+        assertThat(ItemCountCacheKey.of(new JPAQuery<>().from(QInvoice.invoice).select(QInvoice.invoice)))
+                .hasValueSatisfying(key -> assertThat(key.domainType()).isEqualTo(Invoice.class));
+    }
+
+    @Test
+    void keyIndependentOfPredicateOrder() {
+        var first = new JPAQuery<>().from(CUSTOMER)
+                .where(CUSTOMER.vat.eq("abc"), CUSTOMER.name.startsWith("X"), CUSTOMER.gender.isNull());
+        var second = new JPAQuery<>().from(CUSTOMER)
+                .where(CUSTOMER.gender.isNull().and(CUSTOMER.name.startsWith("X")), CUSTOMER.vat.eq("abc"));
+
+        assertThat(ItemCountCacheKey.of(first)).isEqualTo(ItemCountCacheKey.of(second));
+    }
+
+    @Test
+    void keyDependsOnConstants() {
+        var first = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("abc"));
+        var second = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("abd"));
+
+        assertThat(ItemCountCacheKey.of(first)).isNotEqualTo(ItemCountCacheKey.of(second));
+    }
+
+    @Test
+    void keyDistinguishesAmbiguousConstants() {
+        var first = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("a"), CUSTOMER.name.eq("b,c"));
+        var second = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("a,b"), CUSTOMER.name.eq("c"));
+
+        assertThat(ItemCountCacheKey.of(first)).isNotEqualTo(ItemCountCacheKey.of(second));
+    }
+
+    @Test
+    void keyDependsOnDisjunction() {
+        var conjunction = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("a").and(CUSTOMER.name.eq("b")));
+        var disjunction = new JPAQuery<>().from(CUSTOMER).where(CUSTOMER.vat.eq("a").or(CUSTOMER.name.eq("b")));
+
+        assertThat(ItemCountCacheKey.of(conjunction)).isNotEqualTo(ItemCountCacheKey.of(disjunction));
+    }
+
+    @Test
+    void keyDependsOnReferencedEntities() {
+        var invoice = QInvoice.invoice;
+        var query = new JPAQuery<>().from(invoice)
+                .where(invoice.counterparty.name.eq("abc"), invoice.orders.any().id.isNotNull());
+
+        assertThat(ItemCountCacheKey.of(query)).hasValueSatisfying(key -> {
+            assertThat(key.dependsOn(Invoice.class)).isTrue();
+            assertThat(key.dependsOn(Customer.class)).isTrue();
+            assertThat(key.dependsOn(Order.class)).isTrue();
+        });
+        assertThat(ItemCountCacheKey.of(new JPAQuery<>().from(invoice).where(invoice.number.eq("abc"))))
+                .hasValueSatisfying(key -> {
+                    assertThat(key.dependsOn(Invoice.class)).isTrue();
+                    assertThat(key.dependsOn(Customer.class)).isFalse();
+                });
+    }
+
+}
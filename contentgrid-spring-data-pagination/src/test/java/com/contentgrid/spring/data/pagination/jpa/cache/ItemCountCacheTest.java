@@ -0,0 +1,104 @@
+package com.contentgrid.spring.data.pagination.jpa.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class ItemCountCacheTest {
+
+    private static final ItemCountCacheKey KEY_A = new ItemCountCacheKey(String.class, "a");
+    private static final ItemCountCacheKey KEY_B = new ItemCountCacheKey(String.class, "b");
+    private static final ItemCountCacheKey KEY_C = new ItemCountCacheKey(Integer.class, "a");
+
+    @Test
+    void expiresEntries() {
+        var clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        var cache = new ItemCountCache(Duration.ofSeconds(10), 10, clock);
+
+        cache.put(KEY_A, ItemCount.exact(5));
+        assertThat(cache.get(KEY_A)).hasValue(ItemCount.exact(5));
+        assertThat(cache.get(KEY_C)).isEmpty();
+
+        clock.advance(Duration.ofSeconds(11));
+        assertThat(cache.get(KEY_A)).isEmpty();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        var cache = new ItemCountCache(Duration.ofMinutes(1), 2);
+
+        cache.put(KEY_A, ItemCount.exact(1));
+        cache.put(KEY_B, ItemCount.exact(2));
+        // Use A, so B is the least recently used entry
+        assertThat(cache.get(KEY_A)).isPresent();
+        cache.put(KEY_C, ItemCount.exact(3));
+
+        assertThat(cache.get(KEY_A)).hasValue(ItemCount.exact(1));
+        assertThat(cache.get(KEY_B)).isEmpty();
+        assertThat(cache.get(KEY_C)).hasValue(ItemCount.exact(3));
+    }
+
+    @Test
+    void invalidatesEntriesOfType() {
+        var cache = new ItemCountCache(Duration.ofMinutes(1), 10);
+
+        cache.put(KEY_A, ItemCount.exact(1));
+        cache.put(KEY_B, ItemCount.exact(2));
+        cache.put(KEY_C, ItemCount.exact(3));
+
+        cache.invalidate(String.class);
+
+        assertThat(cache.get(KEY_A)).isEmpty();
+        assertThat(cache.get(KEY_B)).isEmpty();
+        assertThat(cache.get(KEY_C)).hasValue(ItemCount.exact(3));
+    }
+
+    @Test
+    void dropsCountsThatStartedBeforeInvalidation() {
+        var cache = new ItemCountCache(Duration.ofMinutes(1), 10);
+
+        var staleGeneration = cache.generation();
+        cache.invalidate(Long.class);
+
+        assertThat(cache.put(KEY_A, ItemCount.exact(1), staleGeneration)).isFalse();
+        assertThat(cache.get(KEY_A)).isEmpty();
+
+        assertThat(cache.put(KEY_A, ItemCount.exact(2), cache.generation())).isTrue();
+        assertThat(cache.get(KEY_A)).hasValue(ItemCount.exact(2));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
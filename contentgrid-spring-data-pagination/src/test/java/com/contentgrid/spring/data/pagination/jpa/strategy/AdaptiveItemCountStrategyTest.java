@@ -0,0 +1,115 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
+import com.contentgrid.spring.test.fixture.invoicing.model.QInvoice;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class AdaptiveItemCountStrategyTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static Supplier<JPQLQuery<?>> customersWithVat(String vat) {
+        return () -> new JPAQuery<>()
+                .from(QCustomer.customer)
+                .where(QCustomer.customer.vat.eq(vat))
+                .select(QCustomer.customer);
+    }
+
+    private static final Supplier<JPQLQuery<?>> INVOICES = () -> new JPAQuery<>()
+            .from(QInvoice.invoice)
+            .select(QInvoice.invoice);
+
+    private final AtomicInteger exactInvocations = new AtomicInteger();
+    private final AtomicBoolean exactTimesOut = new AtomicBoolean(true);
+
+    private final JpaQuerydslItemCountStrategy exact = query -> {
+        exactInvocations.incrementAndGet();
+        return exactTimesOut.get() ? Optional.empty() : Optional.of(ItemCount.exact(25));
+    };
+
+    private final JpaQuerydslItemCountStrategy estimate = query -> Optional.of(ItemCount.estimated(1000));
+
+    private final Clock clock = Mockito.mock(Clock.class);
+
+    private AdaptiveItemCountStrategy strategy;
+
+    @BeforeEach
+    void setup() {
+        Mockito.when(clock.instant()).thenReturn(START);
+        strategy = new AdaptiveItemCountStrategy(exact, estimate, 3, Duration.ofMinutes(1), 10, clock);
+    }
+
+    @Test
+    void exactCountSucceeds() {
+        exactTimesOut.set(false);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(strategy.countQuery(customersWithVat("VAT" + i))).hasValue(ItemCount.exact(25));
+        }
+        assertThat(exactInvocations).hasValue(5);
+    }
+
+    @Test
+    void skipsExactCountAfterRepeatedFailures() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(strategy.countQuery(customersWithVat("VAT" + i))).hasValue(ItemCount.estimated(1000));
+        }
+        assertThat(exactInvocations).hasValue(3);
+
+        // Same query shape with different values: exact count is skipped
+        assertThat(strategy.countQuery(customersWithVat("other"))).hasValue(ItemCount.estimated(1000));
+        assertThat(exactInvocations).hasValue(3);
+
+        // A different query shape still counts exactly
+        strategy.countQuery(INVOICES);
+        assertThat(exactInvocations).hasValue(4);
+    }
+
+    @Test
+    void probesExactCountAfterInterval() {
+        for (int i = 0; i < 3; i++) {
+            strategy.countQuery(customersWithVat("VAT"));
+        }
+        assertThat(exactInvocations).hasValue(3);
+
+        exactTimesOut.set(false);
+        Mockito.when(clock.instant()).thenReturn(START.plus(Duration.ofSeconds(61)));
+
+        // Only one request probes in the interval
+        assertThat(strategy.countQuery(customersWithVat("VAT"))).hasValue(ItemCount.exact(25));
+        assertThat(exactInvocations).hasValue(4);
+
+        // Probe succeeded, exact counts are performed again
+        assertThat(strategy.countQuery(customersWithVat("VAT"))).hasValue(ItemCount.exact(25));
+        assertThat(exactInvocations).hasValue(5);
+    }
+
+    @Test
+    void failedProbeKeepsSkipping() {
+        for (int i = 0; i < 3; i++) {
+            strategy.countQuery(customersWithVat("VAT"));
+        }
+
+        Mockito.when(clock.instant()).thenReturn(START.plus(Duration.ofSeconds(61)));
+
+        assertThat(strategy.countQuery(customersWithVat("VAT"))).hasValue(ItemCount.estimated(1000));
+        assertThat(strategy.countQuery(customersWithVat("VAT"))).hasValue(ItemCount.estimated(1000));
+        // Only the probe performed an exact count
+        assertThat(exactInvocations).hasValue(4);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class AsyncItemCountStrategyTest {
+
+    private static final Supplier<JPQLQuery<?>> QUERY = () -> new JPAQuery<>()
+            .from(QCustomer.customer)
+            .where(QCustomer.customer.vat.startsWith("VAT"))
+            .select(QCustomer.customer);
+
+    private static final JpaQuerydslItemCountStrategy FALLBACK = query -> Optional.of(ItemCount.estimated(1000));
+
+    private final CountDownLatch releaseCount = new CountDownLatch(1);
+    private final AtomicInteger countInvocations = new AtomicInteger();
+
+    private final JpaQuerydslItemCountStrategy slowExactCount = query -> {
+        countInvocations.incrementAndGet();
+        query.get();
+        try {
+            releaseCount.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.of(ItemCount.exact(25));
+    };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private AsyncItemCountStrategy strategy;
+
+    @AfterEach
+    void shutdown() {
+        releaseCount.countDown();
+        executor.shutdownNow();
+    }
+
+    private AsyncItemCountStrategy createStrategy(JpaQuerydslItemCountStrategy delegate, Duration budget) {
+        strategy = new AsyncItemCountStrategy(
+                delegate,
+                FALLBACK,
+                TransactionOperations.withoutTransaction(),
+                executor,
+                budget,
+                new ItemCountCache(Duration.ofMinutes(1), 10)
+        );
+        return strategy;
+    }
+
+    @Test
+    void countWithinBudget() {
+        var asyncStrategy = createStrategy(query -> Optional.of(ItemCount.exact(25)), Duration.ofSeconds(5));
+
+        assertThat(asyncStrategy.countQuery(QUERY)).hasValue(ItemCount.exact(25));
+    }
+
+    @Test
+    void countOutOfBudget_usesFallbackThenCachedCount() throws InterruptedException {
+        var asyncStrategy = createStrategy(slowExactCount, Duration.ofMillis(20));
+
+        // Count does not complete within the budget; an estimate is used
+        assertThat(asyncStrategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+        // Count is still running; a second request joins the running count
+        assertThat(asyncStrategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+
+        releaseCount.countDown();
+
+        // Wait until the exact count becomes available from the cache
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Optional<ItemCount> result;
+        do {
+            Thread.sleep(10);
+            result = asyncStrategy.countQuery(QUERY);
+        } while (result.filter(ItemCount::isEstimated).isPresent() && System.nanoTime() < deadline);
+
+        assertThat(result).hasValue(ItemCount.exact(25));
+        assertThat(countInvocations).hasValue(1);
+    }
+
+    @Test
+    void countWithoutResult_usesFallback() {
+        var asyncStrategy = createStrategy(query -> Optional.empty(), Duration.ofSeconds(5));
+
+        assertThat(asyncStrategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+    }
+
+    @Test
+    void countFailure_usesFallback() {
+        var asyncStrategy = createStrategy(query -> {
+            throw new IllegalStateException("Count failed");
+        }, Duration.ofSeconds(5));
+
+        assertThat(asyncStrategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+    }
+
+}
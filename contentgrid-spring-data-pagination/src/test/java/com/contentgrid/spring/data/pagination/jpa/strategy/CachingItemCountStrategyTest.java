@@ -0,0 +1,62 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.data.pagination.ItemCount;
+import com.contentgrid.spring.data.pagination.jpa.cache.ItemCountCache;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.model.Invoice;
+import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class CachingItemCountStrategyTest {
+
+    private static final Supplier<JPQLQuery<?>> QUERY = () -> new JPAQuery<>()
+            .from(QCustomer.customer)
+            .where(QCustomer.customer.vat.startsWith("VAT"))
+            .select(QCustomer.customer);
+
+    private final ItemCountCache cache = new ItemCountCache(Duration.ofMinutes(1), 10);
+
+    private final AtomicInteger countInvocations = new AtomicInteger();
+
+    @Test
+    void servesExactCountFromCacheUntilInvalidated() {
+        var strategy = new CachingItemCountStrategy(query -> {
+            countInvocations.incrementAndGet();
+            return Optional.of(ItemCount.exact(25));
+        }, cache);
+
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.exact(25));
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.exact(25));
+        assertThat(countInvocations).hasValue(1);
+
+        // A change to an unrelated entity keeps the cached count
+        cache.invalidate(Invoice.class);
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.exact(25));
+        assertThat(countInvocations).hasValue(1);
+
+        cache.invalidate(Customer.class);
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.exact(25));
+        assertThat(countInvocations).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheEstimates() {
+        var strategy = new CachingItemCountStrategy(query -> {
+            countInvocations.incrementAndGet();
+            return Optional.of(ItemCount.estimated(1000));
+        }, cache);
+
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+        assertThat(strategy.countQuery(QUERY)).hasValue(ItemCount.estimated(1000));
+        assertThat(countInvocations).hasValue(2);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class QueryPlanRowsTest {
+
+    @Test
+    void extractsTopLevelPlanRows() throws IOException {
+        var plan = """
+                [
+                  {
+                    "Plan": {
+                      "Node Type": "Hash Join",
+                      "Parallel Aware": false,
+                      "Join Type": "Inner",
+                      "Startup Cost": 1.56,
+                      "Total Cost": 25.42,
+                      "Hash Cond": "(i.counterparty = c.id)",
+                      "Plans": [
+                        {
+                          "Node Type": "Seq Scan",
+                          "Parent Relationship": "Outer",
+                          "Relation Name": "invoice",
+                          "Plan Rows": 850,
+                          "Plan Width": 16
+                        },
+                        {
+                          "Node Type": "Hash",
+                          "Parent Relationship": "Inner",
+                          "Plan Rows": 25,
+                          "Plan Width": 16
+                        }
+                      ],
+                      "Plan Rows": 42,
+                      "Plan Width": 32
+                    }
+                  }
+                ]
+                """;
+
+        assertThat(QueryPlanRows.extract(plan)).hasValue(42);
+    }
+
+    @Test
+    void missingPlanRows() throws IOException {
+        assertThat(QueryPlanRows.extract("[{\"Plan\": {\"Node Type\": \"Result\"}}]")).isEmpty();
+    }
+
+    @Test
+    void invalidJson() {
+        assertThatThrownBy(() -> QueryPlanRows.extract("[{\"Plan\": ")).isInstanceOf(IOException.class);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.contentgrid.spring.data.pagination.jpa.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.model.QCustomer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(classes = InvoicingApplication.class)
+class TableStatisticsItemCountStrategyTest {
+
+    @Autowired
+    TableStatisticsItemCountStrategy tableStatisticsCountingStrategy;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @BeforeEach
+    void seedCustomers() throws SQLException {
+        customerRepository.saveAllAndFlush(
+                IntStream.range(0, 25)
+                        .mapToObj(number -> {
+                            var customer = new Customer();
+                            customer.setName("Customer %d".formatted(number));
+                            customer.setVat("VAT%d".formatted(number));
+                            return customer;
+                        })
+                        .toList()
+        );
+
+        // Table statistics are only used once the table has been analyzed
+        try (var conn = dataSource.getConnection()) {
+            try (var statement = conn.createStatement()) {
+                statement.execute("ANALYZE customer");
+            }
+        }
+    }
+
+    @AfterEach
+    void destroyCustomers() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    // Test needs to run in a transaction to have an open entity manager to perform queries
+    @Transactional
+    void performEstimates_unfiltered() {
+        Supplier<JPQLQuery<?>> querySupplier = () -> new JPAQuery<>(entityManager)
+                .from(QCustomer.customer)
+                .where(Expressions.TRUE)
+                .select(QCustomer.customer);
+
+        assertThat(tableStatisticsCountingStrategy.countQuery(querySupplier))
+                .hasValueSatisfying(result -> {
+                    assertThat(result.isEstimated()).isTrue();
+                    assertThat(result.count()).isEqualTo(25);
+                });
+    }
+
+    @Test
+    @Transactional
+    void performEstimates_filtered() {
+        Supplier<JPQLQuery<?>> querySupplier = () -> new JPAQuery<>(entityManager)
+                .from(QCustomer.customer)
+                .where(QCustomer.customer.name.eq("Customer 1"))
+                .select(QCustomer.customer);
+
+        assertThat(tableStatisticsCountingStrategy.countQuery(querySupplier)).isEmpty();
+    }
+
+}
@@ -10,6 +10,8 @@ import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import jakarta.persistence.EntityManager;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import javax.sql.DataSource;
@@ -122,4 +124,94 @@ class TimedDirectCountItemCountStrategyTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void performCount_outOfMillisecondTime() throws SQLException {
+        createSlowCustomerView("0.5");
+
+        var strategy = new TimedDirectCountItemCountStrategy(Duration.ofSeconds(5),
+                Map.of("Customer", Duration.ofMillis(200)));
+
+        // Test needs to run in a transaction to have an open entity manager to perform queries
+        var tx = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            var originalTimeout = entityManager.createNativeQuery("SHOW statement_timeout").getSingleResult();
+            Supplier<JPQLQuery<?>> querySupplier = () -> new JPAQuery<>(entityManager)
+                    .from(QCustomer.customer)
+                    .select(QCustomer.customer);
+
+            // Counting timed out with a sub-second timeout, no result is expected
+            assertThat(strategy.countQuery(querySupplier)).isEmpty();
+
+            // The transaction is still usable, and the statement timeout is restored
+            assertThat(entityManager.createNativeQuery("SHOW statement_timeout").getSingleResult())
+                    .isEqualTo(originalTimeout);
+        } finally {
+            transactionManager.commit(tx);
+        }
+    }
+
+    @Test
+    void performCount_keepsPendingChanges() {
+        var strategy = new TimedDirectCountItemCountStrategy(Duration.ofSeconds(5), Map.of());
+
+        var tx = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            var customer = new Customer();
+            customer.setName("Pending customer");
+            customer.setVat("VAT-pending");
+            entityManager.persist(customer);
+
+            Supplier<JPQLQuery<?>> querySupplier = () -> new JPAQuery<>(entityManager)
+                    .from(QCustomer.customer)
+                    .select(QCustomer.customer);
+
+            assertThat(strategy.countQuery(querySupplier))
+                    .hasValueSatisfying(result -> assertThat(result.count()).isEqualTo(26));
+        } finally {
+            transactionManager.commit(tx);
+        }
+
+        assertThat(customerRepository.count()).isEqualTo(26);
+    }
+
+    @Test
+    void performCount_withinEntityTime() throws SQLException {
+        createSlowCustomerView("0.01");
+
+        var strategy = new TimedDirectCountItemCountStrategy(Duration.ofMillis(10),
+                Map.of(Customer.class.getName(), Duration.ofSeconds(5)));
+
+        // Test needs to run in a transaction to have an open entity manager to perform queries
+        var tx = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            Supplier<JPQLQuery<?>> querySupplier = () -> new JPAQuery<>(entityManager)
+                    .from(QCustomer.customer)
+                    .select(QCustomer.customer);
+
+            assertThat(strategy.countQuery(querySupplier))
+                    .hasValueSatisfying(result -> {
+                        assertThat(result.isEstimated()).isFalse();
+                        assertThat(result.count()).isEqualTo(25);
+                    });
+        } finally {
+            transactionManager.commit(tx);
+        }
+    }
+
+    private void createSlowCustomerView(String sleepSeconds) throws SQLException {
+        try (var conn = dataSource.getConnection()) {
+            try (var statement = conn.createStatement()) {
+                statement.addBatch("CREATE SCHEMA intercept;");
+                statement.addBatch("""
+                        CREATE VIEW intercept.customer AS
+                            SELECT customer.*
+                            FROM public.customer
+                            CROSS JOIN LATERAL pg_sleep(%s);
+                        """.formatted(sleepSeconds));
+
+                statement.executeBatch();
+            }
+        }
+    }
+
+}
@@ -20,7 +20,7 @@ abstract class AbstractCollectionFiltersImpl implements CollectionFilters {
     public CollectionFilters forSorting() {
         return new PredicateCollectionFiltersImpl(
                 this,
-                cf -> !isCrossRelation(cf.getPath()) && cf.createOrderSpecifier(Order.ASC).isPresent()
+                AbstractCollectionFiltersImpl::isSortable
         );
     }
 
@@ -32,6 +32,10 @@ abstract class AbstractCollectionFiltersImpl implements CollectionFilters {
         );
     }
 
+    static boolean isSortable(CollectionFilter<?> filter) {
+        return !isCrossRelation(filter.getPath()) && filter.createOrderSpecifier(Order.ASC).isPresent();
+    }
+
     private static boolean isCrossRelation(Path<?> path) {
         while (path.getMetadata().getParent() != null) {
             if (path instanceof EntityPath<?>) {
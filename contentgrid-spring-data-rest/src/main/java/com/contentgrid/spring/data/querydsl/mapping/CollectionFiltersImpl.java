@@ -1,14 +1,40 @@
 package com.contentgrid.spring.data.querydsl.mapping;
 
 import com.contentgrid.spring.querydsl.mapping.CollectionFilter;
+import com.contentgrid.spring.querydsl.mapping.CollectionFilters;
+import com.querydsl.core.types.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+/**
+ * All {@link CollectionFilter}s of a domain type.
+ * <p>
+ * Filters are looked up for every request parameter, so the lookups by name, by path and for sorting are indexed
+ * when this object is created instead of scanning all filters on every request.
+ */
 class CollectionFiltersImpl extends AbstractCollectionFiltersImpl {
+    private static final CollectionFilters EMPTY = new IndexedCollectionFilters(Map.of());
+
     private final Map<String, CollectionFilter<?>> filters;
+    private final Map<Path<?>, CollectionFilters> filtersByPath;
+    private final CollectionFilters sortableFilters;
+
+    CollectionFiltersImpl(Map<String, CollectionFilter<?>> filters) {
+        this.filters = filters;
+
+        var byPath = new LinkedHashMap<Path<?>, Map<String, CollectionFilter<?>>>();
+        filters.forEach((name, filter) -> byPath.computeIfAbsent(filter.getPath(), _path -> new LinkedHashMap<>())
+                .put(name, filter));
+        var filtersByPath = new LinkedHashMap<Path<?>, CollectionFilters>(byPath.size());
+        byPath.forEach((path, pathFilters) -> filtersByPath.put(path, new IndexedCollectionFilters(pathFilters)));
+        this.filtersByPath = Collections.unmodifiableMap(filtersByPath);
+
+        this.sortableFilters = new IndexedCollectionFilters(subset(filters, AbstractCollectionFiltersImpl::isSortable));
+    }
 
     @Override
     public Stream<CollectionFilter<?>> filters() {
@@ -20,4 +46,49 @@ class CollectionFiltersImpl extends AbstractCollectionFiltersImpl {
         return Optional.ofNullable(filters.get(filterName));
     }
 
+    @Override
+    public CollectionFilters forPath(Path<?> path) {
+        return filtersByPath.getOrDefault(path, EMPTY);
+    }
+
+    @Override
+    public CollectionFilters forSorting() {
+        return sortableFilters;
+    }
+
+    private static Map<String, CollectionFilter<?>> subset(Map<String, CollectionFilter<?>> filters,
+            Predicate<CollectionFilter<?>> predicate) {
+        var subset = new LinkedHashMap<String, CollectionFilter<?>>();
+        filters.forEach((name, filter) -> {
+            if (predicate.test(filter)) {
+                subset.put(name, filter);
+            }
+        });
+        return subset;
+    }
+
+    /**
+     * A precomputed subset of filters, which can still be looked up by name without scanning.
+     * <p>
+     * Further restrictions of a subset are not indexed, they only scan the (small) subset.
+     */
+    private static class IndexedCollectionFilters extends AbstractCollectionFiltersImpl {
+        private final Map<String, CollectionFilter<?>> filters;
+
+        IndexedCollectionFilters(Map<String, CollectionFilter<?>> filters) {
+            // Collections.unmodifiableMap(…) gives a view on the existing map rather than copying, so it remains ordered
+            this.filters = Collections.unmodifiableMap(filters);
+        }
+
+        @Override
+        public Stream<CollectionFilter<?>> filters() {
+            return filters.values().stream();
+        }
+
+        @Override
+        public Optional<CollectionFilter<?>> named(String filterName) {
+            return Optional.ofNullable(filters.get(filterName));
+        }
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.contentgrid.spring.data.querydsl.mapping;
+
+import com.contentgrid.spring.querydsl.mapping.CollectionFiltersMapping;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.repository.support.Repositories;
+
+/**
+ * Builds the {@link com.contentgrid.spring.querydsl.mapping.CollectionFilters} of all domain types while the
+ * application context is refreshed, instead of on the first request for each domain type.
+ * <p>
+ * Domain types are processed in parallel on a dedicated {@link ForkJoinPool}. Because this happens before the context
+ * finishes refreshing, the application only reports readiness once all filters have been built.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CollectionFiltersMappingPrecomputer implements SmartInitializingSingleton {
+
+    private final Repositories repositories;
+    private final CollectionFiltersMapping collectionFiltersMapping;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Class<?>> domainTypes = StreamSupport.stream(repositories.spliterator(), false).toList();
+
+        var start = System.nanoTime();
+        var pool = new ForkJoinPool();
+        try {
+            pool.submit(() -> domainTypes.parallelStream().forEach(this::precompute)).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("Built CollectionFilters for {} domain types in {} ms", domainTypes.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void precompute(Class<?> domainType) {
+        var start = System.nanoTime();
+        var filterCount = collectionFiltersMapping.forDomainType(domainType).filters().count();
+        log.info("Built {} CollectionFilters for {} in {} ms", filterCount, domainType.getName(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
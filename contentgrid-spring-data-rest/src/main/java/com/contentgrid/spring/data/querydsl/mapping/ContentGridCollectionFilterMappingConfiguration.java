@@ -3,10 +3,13 @@ package com.contentgrid.spring.data.querydsl.mapping;
 import com.contentgrid.spring.data.rest.webmvc.HalFormsPayloadMetadataContributor;
 import com.contentgrid.spring.querydsl.mapping.CollectionFiltersMapping;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.webmvc.ContentGridRestProperties;
 
 @Configuration(proxyBeanMethods = false)
 public class ContentGridCollectionFilterMappingConfiguration {
@@ -28,6 +31,19 @@ public class ContentGridCollectionFilterMappingConfiguration {
         );
     }
 
+    @Bean
+    SmartInitializingSingleton contentGridCollectionFiltersMappingPrecomputer(
+            Repositories repositories,
+            CollectionFiltersMapping collectionFiltersMapping,
+            ObjectProvider<ContentGridRestProperties> contentGridRestProperties
+    ) {
+        if (!contentGridRestProperties.getIfAvailable(ContentGridRestProperties::new).isPrecomputeCollectionFilters()) {
+            return () -> {
+            };
+        }
+        return new CollectionFiltersMappingPrecomputer(repositories, collectionFiltersMapping);
+    }
+
     @Bean
     HalFormsPayloadMetadataContributor collectionFilterHalFormsPayloadMetadataContributor(
             CollectionFiltersMapping collectionFiltersMapping
@@ -10,12 +10,17 @@ public class ContentGridRestProperties {
     boolean useMultipartHalForms = false;
     boolean exposeLegacyPageInfo = true;
     PaginationType pagination = PaginationType.PAGE_NUMBER;
+    /**
+     * Build the collection filters of all domain types at startup, instead of on the first request for a domain type
+     */
+    boolean precomputeCollectionFilters = false;
 
     @Getter
     @RequiredArgsConstructor
     public enum PaginationType {
         PAGE_NUMBER(false),
-        PAGE_CURSOR(true);
+        PAGE_CURSOR(true),
+        KEYSET_CURSOR(true);
 
         private final boolean cursorBased;
 
@@ -3,6 +3,8 @@ package com.contentgrid.spring.data.querydsl.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.contentgrid.spring.data.querydsl.mapping.CollectionFiltersMappingImplTest.LocalConfiguration;
 import com.contentgrid.spring.querydsl.annotation.CollectionFilterParam;
@@ -25,6 +27,7 @@ import jakarta.persistence.OneToOne;
 import java.util.UUID;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -33,6 +36,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -45,6 +49,9 @@ class CollectionFiltersMappingImplTest {
     @Autowired
     CollectionFiltersMapping collectionFiltersMapping;
 
+    @Autowired
+    Repositories repositories;
+
     @Test
     void forDomainType() {
         assertThat(collectionFiltersMapping.forDomainType(Customer.class).filters())
@@ -82,6 +89,10 @@ class CollectionFiltersMappingImplTest {
                         "gender"
                         // nothing across invoices or orders relations is included
                 );
+
+        var sortingFilters = collectionFiltersMapping.forDomainType(Customer.class).forSorting();
+        assertThat(sortingFilters.named("vat")).isPresent();
+        assertThat(sortingFilters.named("invoices.number")).isEmpty();
     }
 
     @Test
@@ -102,6 +113,9 @@ class CollectionFiltersMappingImplTest {
 
         assertThat(collectionFiltersMapping.forProperty(Customer.class, "content").filters()).isEmpty();
 
+        assertThat(collectionFiltersMapping.forProperty(Customer.class, "vat").named("vat")).isPresent();
+        assertThat(collectionFiltersMapping.forProperty(Customer.class, "vat").named("birthday")).isEmpty();
+
         assertThatThrownBy(() -> collectionFiltersMapping.forProperty(Customer.class, "content", "size"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Path 'customer.content' does not have property 'size'");
@@ -137,6 +151,17 @@ class CollectionFiltersMappingImplTest {
         assertThat(collectionFiltersMapping.forIdProperty(ShippingAddress.class, "order")).isEmpty();
     }
 
+    @Test
+    void precomputeAllDomainTypes() {
+        var mapping = mock(CollectionFiltersMapping.class, AdditionalAnswers.delegatesTo(collectionFiltersMapping));
+
+        new CollectionFiltersMappingPrecomputer(repositories, mapping).afterSingletonsInstantiated();
+
+        verify(mapping).forDomainType(Customer.class);
+        verify(mapping).forDomainType(Invoice.class);
+        verify(mapping).forDomainType(EntityWithRenamedId.class);
+    }
+
     @Configuration(proxyBeanMethods = false)
     @EntityScan(basePackageClasses = {CollectionFiltersMappingImplTest.class, InvoicingApplication.class})
     @EnableJpaRepositories(basePackageClasses = {CollectionFiltersMappingImplTest.class, InvoicingApplication.class}, considerNestedRepositories = true)
@@ -0,0 +1,23 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes the coalesced change events of a transaction together, once the transaction has been committed.
+ * <p>
+ * Events of transactions that are rolled back are never published.
+ */
+@RequiredArgsConstructor
+public class AfterCommitEntityChangeEventPublisher extends TransactionChangeEventCollector {
+
+    @NonNull
+    private final EntityChangeEventPublisher entityChangeEventPublisher;
+
+    @Override
+    protected void afterCommit(List<EntityChangeEvent> events) {
+        events.forEach(entityChangeEventPublisher::publish);
+    }
+}
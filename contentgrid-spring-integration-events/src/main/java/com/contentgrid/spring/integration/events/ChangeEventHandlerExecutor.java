@@ -0,0 +1,108 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.ContentGridEventHandlerProperties.Async;
+import com.contentgrid.spring.integration.events.ContentGridEventHandlerProperties.Async.OverflowPolicy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded executor that runs the {@link EntityChangeEventHandler}s, so slow handlers do not delay the thread that
+ * changed the entities.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicy} decides whether the publishing thread waits or the oldest queued
+ * event is dropped. Queued events are handled before shutting down, up to the configured shutdown timeout.
+ * <p>
+ * This is deliberately not an {@link Executor} itself, so it is never mistaken for the application task executor.
+ */
+@Slf4j
+public class ChangeEventHandlerExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Async properties;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ChangeEventHandlerExecutor(@NonNull Async properties) {
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getCapacity()),
+                new CustomizableThreadFactory("contentgrid-events-"),
+                createOverflowHandler(properties.getOverflowPolicy())
+        );
+    }
+
+    private RejectedExecutionHandler createOverflowHandler(OverflowPolicy overflowPolicy) {
+        return switch (overflowPolicy) {
+            case BLOCK -> (task, pool) -> {
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException("Change event executor has been shut down");
+                }
+                try {
+                    pool.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting to queue change event", e);
+                }
+            };
+            case DROP_OLDEST -> (task, pool) -> {
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException("Change event executor has been shut down");
+                }
+                if (pool.getQueue().poll() != null) {
+                    droppedCount.incrementAndGet();
+                    log.warn("Change event queue is full (capacity {}): dropped the oldest event",
+                            properties.getCapacity());
+                }
+                pool.execute(task);
+            };
+        };
+    }
+
+    /**
+     * @return An {@link Executor} that runs tasks on this executor
+     */
+    public Executor asExecutor() {
+        return executor::execute;
+    }
+
+    /**
+     * @return The number of events that are waiting to be handled
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return The number of events that can still be queued before the overflow policy applies
+     */
+    public int getRemainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * @return The number of events that were dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            var unhandled = executor.shutdownNow();
+            log.warn("{} change events were not handled before shutdown", unhandled.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.contentgrid.spring.integration.events;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.messaging.Message;
+
+/**
+ * Observes a stage of publishing entity change events, see {@link ChangeEventObservationContext}.
+ * <p>
+ * Applied as advice to the endpoint of the stage, so the message that is handled is the first argument of the advised
+ * method.
+ */
+@RequiredArgsConstructor
+class ChangeEventObservationAdvice implements MethodInterceptor {
+
+    @NonNull
+    private final ObservationRegistry observationRegistry;
+
+    @NonNull
+    private final String name;
+
+    @NonNull
+    private final KeyValues keyValues;
+
+    ChangeEventObservationAdvice(ObservationRegistry observationRegistry, String name) {
+        this(observationRegistry, name, KeyValues.empty());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var arguments = invocation.getArguments();
+        if (observationRegistry.isNoop() || arguments.length == 0 || !(arguments[0] instanceof Message<?> message)) {
+            return invocation.proceed();
+        }
+
+        var context = new ChangeEventObservationContext(message);
+        var observation = Observation.createNotStarted(name, () -> context, observationRegistry)
+                .lowCardinalityKeyValue(ChangeEventObservationContext.TRIGGER, header(message, "trigger"))
+                .lowCardinalityKeyValue(ChangeEventObservationContext.ENTITY, header(message, "entity"))
+                .lowCardinalityKeyValues(keyValues)
+                .start();
+
+        try (var scope = observation.openScope()) {
+            var result = invocation.proceed();
+            if (result instanceof Message<?> resultMessage) {
+                if (resultMessage.getPayload() instanceof byte[] body) {
+                    context.setPayloadSize(body.length);
+                } else if (resultMessage.getPayload() instanceof String body) {
+                    context.setPayloadSize(utf8Length(body));
+                }
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Counts the bytes of the UTF-8 encoding of a string, without encoding it
+     */
+    static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static String header(Message<?> message, String name) {
+        var value = message.getHeaders().get(name);
+        return value == null ? "unknown" : value.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.contentgrid.spring.integration.events;
+
+import io.micrometer.observation.Observation;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.springframework.messaging.Message;
+
+/**
+ * Context of the observations of the stages of publishing an entity change event.
+ * <p>
+ * Each stage is observed separately. Every observation has the {@value #TRIGGER} and {@value #ENTITY} of the event as
+ * low cardinality key values:
+ * <ul>
+ *     <li>{@value #RENDER}: rendering the changed entities to their HAL representation</li>
+ *     <li>{@value #SERIALIZE}: serializing the payload for the handlers that use a {@value #FORMAT}</li>
+ *     <li>{@value #SEND}: passing the serialized event to a {@value #HANDLER}</li>
+ * </ul>
+ * Observations are created on the thread that publishes the event, so they are children of the observation of the
+ * request that changed the entities.
+ */
+public class ChangeEventObservationContext extends Observation.Context {
+
+    public static final String RENDER = "contentgrid.events.render";
+    public static final String SERIALIZE = "contentgrid.events.serialize";
+    public static final String SEND = "contentgrid.events.send";
+
+    public static final String TRIGGER = "trigger";
+    public static final String ENTITY = "entity";
+    public static final String FORMAT = "format";
+    public static final String HANDLER = "handler";
+
+    @Getter
+    @NonNull
+    private final Message<?> message;
+
+    /**
+     * Size of the serialized payload in bytes; only known for {@value #SERIALIZE} observations, {@code -1} otherwise
+     */
+    @Getter
+    @Setter
+    private long payloadSize = -1;
+
+    public ChangeEventObservationContext(@NonNull Message<?> message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,17 @@
+package com.contentgrid.spring.integration.events;
+
+/**
+ * Format of the change event messages that are sent to an {@link EntityChangeEventHandler}
+ */
+public enum ChangeEventPayloadFormat {
+    /**
+     * The complete HAL representations of the entity before and after the change
+     */
+    FULL,
+
+    /**
+     * For updates, only the self link of the entity and a JSON Merge Patch (RFC 7386) from the old to the new
+     * representation. Creations and deletions are sent in the {@link #FULL} format.
+     */
+    MERGE_PATCH
+}
@@ -0,0 +1,64 @@
+package com.contentgrid.spring.integration.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.integration.json.ObjectToJsonTransformer;
+import org.springframework.integration.mapping.support.JsonHeaders;
+import org.springframework.integration.transformer.AbstractTransformer;
+import org.springframework.integration.transformer.MessageTransformationException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Serializes change event payloads to a HAL JSON message body.
+ * <p>
+ * By default, the body is a {@link String} with content type {@code application/hal+json}, like
+ * {@link ObjectToJsonTransformer} produces. With a binary payload, the body is written straight to a UTF-8
+ * {@code byte[]} with content type {@code application/json}, so handlers that send bytes do not have to encode a
+ * {@link String} again. Jackson recycles its internal buffers, so the resulting body is the only allocation that
+ * remains per message.
+ */
+public class ChangeEventPayloadSerializer extends AbstractTransformer {
+
+    private final ObjectWriter halObjectWriter;
+
+    private final boolean binaryPayload;
+
+    public ChangeEventPayloadSerializer(ObjectMapper halObjectMapper) {
+        this(halObjectMapper, false);
+    }
+
+    /**
+     * @param binaryPayload Whether to serialize to a {@code byte[]} instead of a {@link String}
+     * @see EntityChangeEventHandler#binaryPayload()
+     */
+    public ChangeEventPayloadSerializer(ObjectMapper halObjectMapper, boolean binaryPayload) {
+        this.halObjectWriter = halObjectMapper.writer();
+        this.binaryPayload = binaryPayload;
+    }
+
+    @Override
+    protected Object doTransform(Message<?> message) {
+        var payload = message.getPayload();
+
+        Object body;
+        try {
+            body = binaryPayload
+                    ? halObjectWriter.writeValueAsBytes(payload)
+                    : halObjectWriter.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageTransformationException(message, "Failed to serialize change event payload", e);
+        }
+
+        return getMessageBuilderFactory()
+                .withPayload(body)
+                .copyHeaders(message.getHeaders())
+                .setHeader(MessageHeaders.CONTENT_TYPE,
+                        binaryPayload ? MediaType.APPLICATION_JSON_VALUE : MediaTypes.HAL_JSON_VALUE)
+                .setHeader(JsonHeaders.TYPE_ID, payload.getClass())
+                .build();
+    }
+}
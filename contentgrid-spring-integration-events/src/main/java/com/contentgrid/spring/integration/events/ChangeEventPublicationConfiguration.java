@@ -1,6 +1,8 @@
 package com.contentgrid.spring.integration.events;
 
+import com.contentgrid.spring.integration.events.outbox.EntityChangeEventOutbox;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,14 +12,21 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.integration.annotation.IntegrationComponentScan;
+import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.messaging.MessageChannel;
 
 @Configuration(proxyBeanMethods = false)
 @IntegrationComponentScan(basePackageClasses = EntityChangeEventPublisher.class)
 @EnableIntegration()
 public class ChangeEventPublicationConfiguration {
 
+    /**
+     * Channel for the summary events of changes made in a {@link ChangeEventSummaryScope}
+     */
+    public static final String SUMMARY_CHANNEL = "contentgrid.events.summary.channel";
+
     @Bean
     EntityChangeEventTransformer contentGridEntityChangeEventTransformer(
             @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter,
@@ -27,17 +36,34 @@ public class ChangeEventPublicationConfiguration {
                 typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper());
     }
 
+    @Bean(SUMMARY_CHANNEL)
+    MessageChannel contentGridChangeEventSummaryChannel() {
+        return new DirectChannel();
+    }
+
     @Bean
     EntityChangeHibernateEventListener contentGridEntityChangeEventListener(
             EntityChangeEventPublisher entityChangeEventPublisher,
             EntityManagerFactory entityManagerFactory,
-            Repositories repositories
+            Repositories repositories,
+            ObjectProvider<EntityChangeEventOutbox> outbox,
+            ContentGridEventHandlerProperties eventHandlerProperties,
+            @Qualifier(SUMMARY_CHANNEL) MessageChannel summaryChannel,
+            ObjectProvider<ChangeEventSubscriptions> subscriptions
     ) {
-        return new EntityChangeHibernateEventListener(
-                entityChangeEventPublisher,
-                entityManagerFactory,
-                repositories
-        );
+        TransactionChangeEventCollector transactionChangeEventCollector = outbox.getIfAvailable();
+        if (transactionChangeEventCollector == null && eventHandlerProperties.getEvents().isCoalesce()) {
+            transactionChangeEventCollector = new AfterCommitEntityChangeEventPublisher(entityChangeEventPublisher);
+        }
+
+        return EntityChangeHibernateEventListener.builder()
+                .entityChangeEventPublisher(entityChangeEventPublisher)
+                .entityManagerFactory(entityManagerFactory)
+                .repositories(repositories)
+                .transactionChangeEventCollector(transactionChangeEventCollector)
+                .summaryCollector(new ChangeEventSummaryCollector(summaryChannel, repositories))
+                .subscriptions(subscriptions.getIfAvailable())
+                .build();
     }
 
     @Bean
@@ -45,18 +71,46 @@ public class ChangeEventPublicationConfiguration {
             ObjectProvider<EntityChangeEventHandler> handlers,
             @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter,
             EntityChangeEventTransformer entityChangeEventTransformer,
-            ContentGridEventHandlerProperties eventHandlerProperties
+            ContentGridEventHandlerProperties eventHandlerProperties,
+            ObjectProvider<ChangeEventHandlerExecutor> handlerExecutor,
+            ObjectProvider<ObservationRegistry> observationRegistry
     ) {
         ObjectMapper halObjectMapper = typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper();
+        var executor = handlerExecutor.getIfAvailable();
 
         return IntegrationFlow
                 .from(EntityChangeEventPublisher.CHANGE_EVENT_CHANNEL)
-                .to(new PublishContentGridMessageFlow(
-                                eventHandlerProperties,
-                                entityChangeEventTransformer,
-                                halObjectMapper,
-                                handlers.stream().toList()
-                        )
+                .to(PublishContentGridMessageFlow.builder()
+                        .properties(eventHandlerProperties)
+                        .toPersistentEntityTransformer(entityChangeEventTransformer)
+                        .halObjectMapper(halObjectMapper)
+                        .handlers(handlers.stream().toList())
+                        .handlerExecutor(executor == null ? null : executor.asExecutor())
+                        .observationRegistry(observationRegistry.getIfAvailable())
+                        .build()
+                );
+    }
+
+    @Bean
+    IntegrationFlow contentGridChangeEventSummaryFlow(
+            ObjectProvider<EntityChangeEventHandler> handlers,
+            @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter,
+            ContentGridEventHandlerProperties eventHandlerProperties,
+            ObjectProvider<ChangeEventHandlerExecutor> handlerExecutor,
+            ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        var executor = handlerExecutor.getIfAvailable();
+
+        return IntegrationFlow
+                .from(SUMMARY_CHANNEL)
+                .to(PublishContentGridMessageFlow.builder()
+                        .properties(eventHandlerProperties)
+                        // Summaries do not need to be rendered
+                        .halObjectMapper(typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper())
+                        .handlers(handlers.stream().toList())
+                        .handlerExecutor(executor == null ? null : executor.asExecutor())
+                        .observationRegistry(observationRegistry.getIfAvailable())
+                        .build()
                 );
     }
 
@@ -0,0 +1,27 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+
+/**
+ * Decides for which domain types and kinds of change entity change events are published.
+ * <p>
+ * Consulted by {@link EntityChangeHibernateEventListener} for every change, before any event is created. Changes that
+ * nobody is subscribed to cause no further work.
+ */
+@FunctionalInterface
+public interface ChangeEventSubscriptions {
+
+    /**
+     * @param domainType The domain type of the changed entity
+     * @param changeKind The kind of change
+     * @return Whether an event has to be published for this change
+     */
+    boolean isSubscribed(Class<?> domainType, ChangeKind changeKind);
+
+    /**
+     * @return Subscriptions that publish events for every change
+     */
+    static ChangeEventSubscriptions all() {
+        return (domainType, changeKind) -> true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * Collects the changes that are made in a {@link ChangeEventSummaryScope}, and publishes them as summaries once the
+ * transaction has been committed.
+ * <p>
+ * Every summary covers one domain type and one kind of change, and lists the ids of the changed entities. Changes to
+ * the same entity are coalesced first, so an entity is listed only once per transaction. Summaries of transactions that
+ * are rolled back are never published.
+ */
+@RequiredArgsConstructor
+public class ChangeEventSummaryCollector extends TransactionChangeEventCollector {
+
+    @NonNull
+    private final MessageChannel outputChannel;
+
+    @NonNull
+    private final Repositories repositories;
+
+    @Override
+    protected void afterCommit(List<EntityChangeEvent> events) {
+        var idsByDomainType = new LinkedHashMap<Class<?>, Map<ChangeKind, List<Object>>>();
+        for (var event : events) {
+            var entity = event.getNewEntity()
+                    .or(event::getOldEntity)
+                    .or(() -> event.getOldState().map(EntityStateSnapshot::entity))
+                    .orElse(null);
+            if (entity == null) {
+                continue;
+            }
+            var id = repositories.getPersistentEntity(event.getDomainType())
+                    .getIdentifierAccessor(entity)
+                    .getIdentifier();
+            idsByDomainType.computeIfAbsent(event.getDomainType(), domainType -> new EnumMap<>(ChangeKind.class))
+                    .computeIfAbsent(event.getTrigger(), trigger -> new ArrayList<>())
+                    .add(id);
+        }
+
+        idsByDomainType.forEach((domainType, idsByTrigger) -> idsByTrigger.forEach((trigger, ids) -> {
+            var triggerName = trigger.name().toLowerCase(Locale.ROOT);
+            outputChannel.send(MessageBuilder.withPayload(new ChangeEventSummaryPayload(triggerName, ids))
+                    .setHeader("trigger", triggerName)
+                    .setHeader("entity", domainType.getName())
+                    .setHeader("summary", true)
+                    .build());
+        }));
+    }
+
+    /**
+     * Payload of a summary event
+     *
+     * @param trigger The kind of change that was made to all listed entities
+     * @param ids The ids of the changed entities
+     */
+    public record ChangeEventSummaryPayload(
+            String trigger,
+            List<Object> ids
+    ) {
+
+    }
+}
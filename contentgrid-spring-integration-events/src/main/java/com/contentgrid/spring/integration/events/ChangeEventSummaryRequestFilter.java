@@ -0,0 +1,44 @@
+package com.contentgrid.spring.integration.events;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Summarizes the entity change events of requests that have the {@value #HEADER} header set to
+ * {@value #SUMMARY}, by handling them in a {@link ChangeEventSummaryScope}.
+ * <p>
+ * Summaries leave out the rendered entities that event consumers may depend on, so the header is only honoured for
+ * requests that are allowed to ask for it; for other requests it is ignored.
+ */
+@RequiredArgsConstructor
+public class ChangeEventSummaryRequestFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-ContentGrid-Change-Events";
+    public static final String SUMMARY = "summary";
+
+    /**
+     * Whether a request may have its change events summarized
+     */
+    @NonNull
+    private final Predicate<HttpServletRequest> allowed;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!SUMMARY.equalsIgnoreCase(request.getHeader(HEADER)) || !allowed.test(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try (var scope = ChangeEventSummaryScope.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
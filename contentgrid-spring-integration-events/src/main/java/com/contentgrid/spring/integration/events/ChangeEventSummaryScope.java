@@ -0,0 +1,59 @@
+package com.contentgrid.spring.integration.events;
+
+/**
+ * Switches the entity change events of the current thread to summaries.
+ * <p>
+ * While a scope is open, changed entities are not published individually: every transaction publishes one
+ * {@link ChangeEventSummaryCollector summary event} per domain type and kind of change, listing the ids of the changed
+ * entities. This avoids rendering every entity during bulk operations.
+ * <p>
+ * Scopes can be nested; changes are summarized until the outermost scope is closed.
+ * <pre>{@code
+ * try (var scope = ChangeEventSummaryScope.open()) {
+ *     repository.saveAll(entities);
+ * }
+ * }</pre>
+ */
+public final class ChangeEventSummaryScope implements AutoCloseable {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private boolean closed = false;
+
+    private ChangeEventSummaryScope() {
+    }
+
+    /**
+     * Opens a scope on the current thread. The scope must be closed on the same thread.
+     */
+    public static ChangeEventSummaryScope open() {
+        DEPTH.set(depth() + 1);
+        return new ChangeEventSummaryScope();
+    }
+
+    /**
+     * @return Whether changes on the current thread are summarized
+     */
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+
+    private static int depth() {
+        var depth = DEPTH.get();
+        return depth == null ? 0 : depth;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        var depth = depth() - 1;
+        if (depth <= 0) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth);
+        }
+    }
+}
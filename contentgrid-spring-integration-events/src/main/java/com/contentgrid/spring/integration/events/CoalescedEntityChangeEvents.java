@@ -0,0 +1,96 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Ordered collection of the change events of one transaction, with at most one event per entity.
+ * <p>
+ * When an entity changes multiple times, the events are combined into a single event that describes the change from
+ * the state before the first change to the state after the last change:
+ * <ul>
+ *     <li>a creation followed by updates stays a creation</li>
+ *     <li>a creation followed by a deletion cancels out</li>
+ *     <li>multiple updates become one update, with the earliest old state</li>
+ *     <li>updates followed by a deletion become a deletion of the earliest old state</li>
+ * </ul>
+ * A combined event keeps the position of the first event for that entity.
+ */
+public class CoalescedEntityChangeEvents {
+
+    private final Map<EntityKey, EntityChangeEvent> events = new LinkedHashMap<>();
+
+    public void add(@NonNull EntityChangeEvent changeEvent) {
+        var key = new EntityKey(changeEvent.getNewEntity().or(changeEvent::getOldEntity).orElseThrow());
+        var previous = events.get(key);
+        if (previous == null) {
+            events.put(key, changeEvent);
+            return;
+        }
+
+        var coalesced = coalesce(previous, changeEvent);
+        if (coalesced == null) {
+            events.remove(key);
+        } else {
+            // Replacing the value of an existing key keeps its position
+            events.put(key, coalesced);
+        }
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public List<EntityChangeEvent> toList() {
+        return List.copyOf(events.values());
+    }
+
+    private static EntityChangeEvent coalesce(EntityChangeEvent previous, EntityChangeEvent next) {
+        return switch (previous.getTrigger()) {
+            case CREATE -> switch (next.getTrigger()) {
+                // The new entity is the same managed instance, so it already has the latest state
+                case UPDATE -> previous;
+                case DELETE -> null;
+                case CREATE -> next;
+            };
+            case UPDATE -> switch (next.getTrigger()) {
+                case UPDATE, CREATE -> withOldEntity(ChangeKind.UPDATE, previous, next.getNewEntity().orElse(null));
+                case DELETE -> withOldEntity(ChangeKind.DELETE, previous, null);
+            };
+            case DELETE -> switch (next.getTrigger()) {
+                case CREATE, UPDATE -> withOldEntity(ChangeKind.UPDATE, previous, next.getNewEntity().orElse(null));
+                case DELETE -> previous;
+            };
+        };
+    }
+
+    private static EntityChangeEvent withOldEntity(ChangeKind trigger, EntityChangeEvent previous, Object newEntity) {
+        return EntityChangeEvent.builder()
+                .trigger(trigger)
+                .domainType(previous.getDomainType())
+                .oldEntity(previous.getOldEntity().orElse(null))
+                .oldState(previous.getOldState().orElse(null))
+                .newEntity(newEntity)
+                .build();
+    }
+
+    /**
+     * Entities are compared by identity: within a session, every entity is represented by a single instance
+     */
+    private record EntityKey(Object entity) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EntityKey other && other.entity == entity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(entity);
+        }
+    }
+}
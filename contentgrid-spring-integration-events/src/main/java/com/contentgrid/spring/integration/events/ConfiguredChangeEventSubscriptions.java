@@ -0,0 +1,50 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+
+/**
+ * Subscriptions to the kinds of change of a fixed set of entities, listed by entity name.
+ * <p>
+ * The entity name is the simple name of the domain type, compared case-insensitively. Entities that are not listed
+ * have no subscriptions.
+ */
+public class ConfiguredChangeEventSubscriptions implements ChangeEventSubscriptions {
+
+    private final Map<String, Set<ChangeKind>> changeKindsByEntityName;
+
+    private final Map<Class<?>, Set<ChangeKind>> changeKindsByDomainType = new ConcurrentHashMap<>();
+
+    public ConfiguredChangeEventSubscriptions(@NonNull Map<String, Set<ChangeKind>> changeKindsByEntityName) {
+        this.changeKindsByEntityName = changeKindsByEntityName.entrySet()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        entry -> entry.getKey().toLowerCase(Locale.ROOT),
+                        entry -> toEnumSet(entry.getValue()),
+                        (a, b) -> {
+                            var merged = toEnumSet(a);
+                            merged.addAll(b);
+                            return merged;
+                        }
+                ));
+    }
+
+    private static Set<ChangeKind> toEnumSet(Set<ChangeKind> changeKinds) {
+        var enumSet = EnumSet.noneOf(ChangeKind.class);
+        enumSet.addAll(changeKinds);
+        return enumSet;
+    }
+
+    @Override
+    public boolean isSubscribed(Class<?> domainType, ChangeKind changeKind) {
+        return changeKindsByDomainType.computeIfAbsent(domainType, type -> changeKindsByEntityName.getOrDefault(
+                type.getSimpleName().toLowerCase(Locale.ROOT), Set.of())
+        ).contains(changeKind);
+    }
+}
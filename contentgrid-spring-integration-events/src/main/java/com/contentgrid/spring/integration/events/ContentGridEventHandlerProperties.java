@@ -1,5 +1,10 @@
 package com.contentgrid.spring.integration.events;
 
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.util.Assert;
 import lombok.Data;
@@ -20,16 +25,117 @@ public class ContentGridEventHandlerProperties {
     public static class EventProperties {
 
         private String webhookConfigUrl = "";
+        /**
+         * Combine multiple changes to the same entity within a transaction, and publish them after commit
+         */
+        private boolean coalesce = false;
         private RabbitMq rabbitmq = new RabbitMq();
+        private Outbox outbox = new Outbox();
+        private Async async = new Async();
+        private Filter filter = new Filter();
+        private Summary summary = new Summary();
     }
 
     @Data
     public static class RabbitMq {
         private String routingKey = "contentgrid.events";
-        
+        private ChangeEventPayloadFormat payloadFormat = ChangeEventPayloadFormat.FULL;
+
         public void setRoutingKey(String routingKey) {
             Assert.hasText(routingKey, "routing-key cannot be empty");
             this.routingKey = routingKey;
         }
     }
+
+    @Data
+    public static class Outbox {
+        /**
+         * Store change events in an outbox table in the same transaction, and publish them from there
+         */
+        private boolean enabled = false;
+
+        /**
+         * Delay between polls of the outbox table
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /**
+         * Maximum number of events that is published in one transaction
+         */
+        private int batchSize = 100;
+
+        /**
+         * Create the outbox table at startup when it does not exist yet. Only supported on PostgreSQL. Applications
+         * that manage their schema with Flyway should add {@code classpath:db/contentgrid/event-outbox} to their
+         * migration locations instead.
+         */
+        private boolean initializeSchema = false;
+    }
+
+    @Data
+    public static class Filter {
+        /**
+         * Only publish change events for the entities and kinds of change that are listed in {@link #entities}
+         */
+        private boolean enabled = false;
+
+        /**
+         * Kinds of change to publish events for, by entity name (the simple name of the domain type, case-insensitive)
+         */
+        private Map<String, Set<ChangeKind>> entities = new HashMap<>();
+    }
+
+    @Data
+    public static class Summary {
+        /**
+         * Summarize the change events of requests with the {@code X-ContentGrid-Change-Events: summary} header
+         */
+        private boolean enabled = false;
+
+        /**
+         * Role that a caller needs for its summary header to be honoured, checked with
+         * {@code HttpServletRequest#isUserInRole}. When not set, the header is honoured for every caller, which is
+         * only suitable when all callers are trusted.
+         */
+        private String role;
+    }
+
+    @Data
+    public static class Async {
+        /**
+         * Run the event handlers on a separate executor instead of on the thread that changed the entity
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of rendered events that wait for a handler thread
+         */
+        private int capacity = 10000;
+
+        /**
+         * Number of threads that run the event handlers. With more than one thread, events can be handled out of order.
+         */
+        private int concurrency = 1;
+
+        /**
+         * What happens to a new event when the queue is full
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        /**
+         * Maximum time to wait for queued events to be handled when shutting down
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        public enum OverflowPolicy {
+            /**
+             * Block the publishing thread until there is room in the queue
+             */
+            BLOCK,
+            /**
+             * Discard the oldest queued event to make room for the new one
+             */
+            DROP_OLDEST
+        }
+    }
 }
@@ -7,4 +7,19 @@ public interface EntityChangeEventHandler {
 
     MessageHandler get();
 
+    /**
+     * @return The format of the change event messages this handler receives
+     */
+    default ChangeEventPayloadFormat payloadFormat() {
+        return ChangeEventPayloadFormat.FULL;
+    }
+
+    /**
+     * @return Whether this handler receives the change event message body as a UTF-8 {@code byte[]} with content type
+     * {@code application/json}, instead of as a {@link String} with content type {@code application/hal+json}
+     */
+    default boolean binaryPayload() {
+        return false;
+    }
+
 }
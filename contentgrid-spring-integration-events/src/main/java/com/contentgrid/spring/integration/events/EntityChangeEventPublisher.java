@@ -40,10 +40,19 @@ public interface EntityChangeEventPublisher {
         Object oldEntity;
         Object newEntity;
 
+        /**
+         * State of an updated entity before the update; used instead of {@link #oldEntity} to avoid copying the entity
+         */
+        EntityStateSnapshot oldState;
+
         public Optional<Object> getOldEntity() {
             return Optional.ofNullable(oldEntity);
         }
 
+        public Optional<EntityStateSnapshot> getOldState() {
+            return Optional.ofNullable(oldState);
+        }
+
         public Optional<Object> getNewEntity() {
             return Optional.ofNullable(newEntity);
         }
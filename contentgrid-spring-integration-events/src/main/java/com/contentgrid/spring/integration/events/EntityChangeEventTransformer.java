@@ -11,27 +11,50 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.integration.transformer.AbstractPayloadTransformer;
 
-@RequiredArgsConstructor
 public class EntityChangeEventTransformer extends AbstractPayloadTransformer<EntityChangeEvent, ChangeEventPayload> {
 
     private final EntityModelAssembler entityModelAssembler;
     private final ObjectMapper halObjectMapper;
+    private final OldStateJsonRenderer oldStateJsonRenderer;
+
+    public EntityChangeEventTransformer(EntityModelAssembler entityModelAssembler, ObjectMapper halObjectMapper) {
+        this.entityModelAssembler = entityModelAssembler;
+        this.halObjectMapper = halObjectMapper;
+        this.oldStateJsonRenderer = new OldStateJsonRenderer(halObjectMapper);
+    }
 
     @Override
     protected ChangeEventPayload transformPayload(EntityChangeEvent changeEvent) {
+        var newJson = changeEvent.getNewEntity()
+                .map(this::toJson)
+                .orElse(null);
+        var oldJson = changeEvent.getOldState()
+                .map(oldState -> renderOldState(oldState, newJson))
+                .orElseGet(() -> changeEvent.getOldEntity()
+                        .map(this::toJson)
+                        .orElse(null));
+
         return new ChangeEventPayload(
                 changeEvent.getTrigger().name().toLowerCase(Locale.ROOT),
-                changeEvent.getOldEntity()
-                        .map(entityModelAssembler::toModel)
-                        .<JsonNode>map(halObjectMapper::valueToTree)
-                        .orElse(null),
-                changeEvent.getNewEntity()
-                        .map(entityModelAssembler::toModel)
-                        .<JsonNode>map(halObjectMapper::valueToTree)
-                        .orElse(null)
+                oldJson,
+                newJson
         );
     }
 
+    private JsonNode renderOldState(EntityStateSnapshot oldState, JsonNode newJson) {
+        if (newJson != null) {
+            var oldJson = oldStateJsonRenderer.render(oldState, newJson);
+            if (oldJson.isPresent()) {
+                return oldJson.get();
+            }
+        }
+        return toJson(oldState.toEntity());
+    }
+
+    private JsonNode toJson(Object entity) {
+        return halObjectMapper.valueToTree(entityModelAssembler.toModel(entity));
+    }
+
     @RequiredArgsConstructor
     public static class ChangeEventPayload {
 
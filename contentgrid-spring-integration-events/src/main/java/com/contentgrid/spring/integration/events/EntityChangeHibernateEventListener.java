@@ -3,7 +3,10 @@ package com.contentgrid.spring.integration.events;
 import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
 import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
 import jakarta.persistence.EntityManagerFactory;
+import lombok.Builder;
+import lombok.NonNull;
 import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostCollectionUpdateEvent;
 import org.hibernate.event.spi.PostCollectionUpdateEventListener;
@@ -15,9 +18,9 @@ import org.hibernate.event.spi.PostUpdateEvent;
 import org.hibernate.event.spi.PostUpdateEventListener;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.persister.entity.EntityPersister;
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.lang.Nullable;
 
 public class EntityChangeHibernateEventListener implements PostInsertEventListener,
         PostUpdateEventListener, PostDeleteEventListener, PostCollectionUpdateEventListener,
@@ -26,12 +29,37 @@ public class EntityChangeHibernateEventListener implements PostInsertEventListen
     private final EntityChangeEventPublisher entityChangeEventPublisher;
     private final EntityManagerFactory entityManagerFactory;
     private final Repositories repositories;
+    @Nullable
+    private final TransactionChangeEventCollector transactionChangeEventCollector;
+    @Nullable
+    private final ChangeEventSummaryCollector summaryCollector;
+    private final ChangeEventSubscriptions subscriptions;
 
     public EntityChangeHibernateEventListener(EntityChangeEventPublisher entityChangeEventPublisher,
             EntityManagerFactory entityManagerFactory, Repositories repositories) {
+        this(entityChangeEventPublisher, entityManagerFactory, repositories, null, null, null);
+    }
+
+    /**
+     * @param transactionChangeEventCollector When present, change events are collected per transaction instead of
+     * being published immediately
+     * @param summaryCollector When present, changes made in a {@link ChangeEventSummaryScope} are published as
+     * summaries
+     * @param subscriptions Decides which changes are published, other changes are ignored; all changes are published
+     * when absent
+     */
+    @Builder
+    private EntityChangeHibernateEventListener(@NonNull EntityChangeEventPublisher entityChangeEventPublisher,
+            @NonNull EntityManagerFactory entityManagerFactory, @NonNull Repositories repositories,
+            @Nullable TransactionChangeEventCollector transactionChangeEventCollector,
+            @Nullable ChangeEventSummaryCollector summaryCollector,
+            @Nullable ChangeEventSubscriptions subscriptions) {
         this.entityChangeEventPublisher = entityChangeEventPublisher;
         this.entityManagerFactory = entityManagerFactory;
         this.repositories = repositories;
+        this.transactionChangeEventCollector = transactionChangeEventCollector;
+        this.summaryCollector = summaryCollector;
+        this.subscriptions = subscriptions == null ? ChangeEventSubscriptions.all() : subscriptions;
     }
 
     @Override
@@ -52,10 +80,15 @@ public class EntityChangeHibernateEventListener implements PostInsertEventListen
 
     @Override
     public void onPostInsert(PostInsertEvent event) {
-        entityChangeEventPublisher.publish(
+        var domainType = deriveDomainType(event.getEntity());
+        if (!subscriptions.isSubscribed(domainType, ChangeKind.CREATE)) {
+            return;
+        }
+
+        publish(event.getSession(),
                 EntityChangeEvent.builder()
                         .trigger(ChangeKind.CREATE)
-                        .domainType(deriveDomainType(event.getEntity()))
+                        .domainType(domainType)
                         .newEntity(event.getEntity())
                         .build()
         );
@@ -64,15 +97,19 @@ public class EntityChangeHibernateEventListener implements PostInsertEventListen
     @Override
     public void onPostUpdate(PostUpdateEvent event) {
         Object entity = event.getEntity();
-        Object oldEntity = BeanUtils.instantiateClass(entity.getClass());
-        BeanUtils.copyProperties(entity, oldEntity);
-        event.getPersister().setPropertyValues(oldEntity, event.getOldState());
+        var domainType = deriveDomainType(entity);
+        if (!subscriptions.isSubscribed(domainType, ChangeKind.UPDATE)) {
+            return;
+        }
+        var oldState = event.getOldState();
 
-        entityChangeEventPublisher.publish(
+        publish(event.getSession(),
                 EntityChangeEvent.builder()
                         .trigger(ChangeKind.UPDATE)
-                        .domainType(deriveDomainType(entity))
-                        .oldEntity(oldEntity)
+                        .domainType(domainType)
+                        // The state array is copied, it belongs to Hibernate
+                        .oldState(oldState == null ? null
+                                : new EntityStateSnapshot(entity, event.getPersister(), oldState.clone()))
                         .newEntity(entity)
                         .build()
         );
@@ -80,10 +117,15 @@ public class EntityChangeHibernateEventListener implements PostInsertEventListen
 
     @Override
     public void onPostDelete(PostDeleteEvent event) {
-        entityChangeEventPublisher.publish(
+        var domainType = deriveDomainType(event.getEntity());
+        if (!subscriptions.isSubscribed(domainType, ChangeKind.DELETE)) {
+            return;
+        }
+
+        publish(event.getSession(),
                 EntityChangeEvent.builder()
                         .trigger(ChangeKind.DELETE)
-                        .domainType(deriveDomainType(event.getEntity()))
+                        .domainType(domainType)
                         .oldEntity(event.getEntity())
                         .build()
         );
@@ -91,16 +133,31 @@ public class EntityChangeHibernateEventListener implements PostInsertEventListen
 
     @Override
     public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
-        entityChangeEventPublisher.publish(
+        var domainType = deriveDomainType(event.getAffectedOwnerOrNull());
+        if (!subscriptions.isSubscribed(domainType, ChangeKind.UPDATE)) {
+            return;
+        }
+
+        publish(event.getSession(),
                 EntityChangeEvent.builder()
                         .trigger(ChangeKind.UPDATE)
-                        .domainType(deriveDomainType(event.getAffectedOwnerOrNull()))
+                        .domainType(domainType)
                         .oldEntity(event.getAffectedOwnerOrNull())
                         .newEntity(event.getAffectedOwnerOrNull())
                         .build()
         );
     }
 
+    private void publish(EventSource session, EntityChangeEvent changeEvent) {
+        if (summaryCollector != null && ChangeEventSummaryScope.isActive()) {
+            summaryCollector.add(session, changeEvent);
+        } else if (transactionChangeEventCollector != null) {
+            transactionChangeEventCollector.add(session, changeEvent);
+        } else {
+            entityChangeEventPublisher.publish(changeEvent);
+        }
+    }
+
     private Class<?> deriveDomainType(Object entity) {
         return repositories.getPersistentEntity(entity.getClass()).getType();
     }
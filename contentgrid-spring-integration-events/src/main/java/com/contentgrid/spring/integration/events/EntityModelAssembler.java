@@ -1,15 +1,21 @@
 package com.contentgrid.spring.integration.events;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.PersistentEntityProjector;
 import org.springframework.data.util.Lazy;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
 
 public class EntityModelAssembler {
@@ -21,8 +27,14 @@ public class EntityModelAssembler {
     private final Lazy<Associations> associations;
     private final Lazy<SelfLinkProvider> selfLinkProvider;
     private final Lazy<RepositoryRestConfiguration> repositoryRestConfiguration;
+    private final Lazy<List<ResolvableType>> processorTypes;
 
-    private PersistentEntityResourceAssembler assembler;
+    private final Lazy<PersistentEntityResourceAssembler> assembler;
+
+    /**
+     * Whether any {@link RepresentationModelProcessor} can apply to the model of an entity, by entity class
+     */
+    private final Map<Class<?>, Boolean> processorsApplicable = new ConcurrentHashMap<>();
 
     public EntityModelAssembler(ApplicationContext context) {
         this.projectionFactory = new SpelAwareProxyProjectionFactory();
@@ -36,26 +48,55 @@ public class EntityModelAssembler {
         this.selfLinkProvider = Lazy.of(() -> context.getBean(SelfLinkProvider.class));
         this.repositoryRestConfiguration = Lazy
                 .of(() -> context.getBean(RepositoryRestConfiguration.class));
-    }
+        this.processorTypes = Lazy.of(() -> context.getBeanProvider(RepresentationModelProcessor.class)
+                .stream()
+                .map(processor -> ResolvableType.forClass(processor.getClass())
+                        .as(RepresentationModelProcessor.class)
+                        .getGeneric(0))
+                .toList());
 
-    private PersistentEntityResourceAssembler getAssembler() {
-        if (assembler != null) {
-            return assembler;
-        }
+        // Lazy is thread-safe, so the assembler is only created once, even when events are rendered concurrently
+        this.assembler = Lazy.of(this::createAssembler);
+    }
 
+    private PersistentEntityResourceAssembler createAssembler() {
         PersistentEntityProjector projector = new PersistentEntityProjector(
                 repositoryRestConfiguration.get().getProjectionConfiguration(), projectionFactory,
                 null, associations.get().getMappings());
 
-        this.assembler = new PersistentEntityResourceAssembler(persistentEntities.get(), projector,
+        return new PersistentEntityResourceAssembler(persistentEntities.get(), projector,
                 associations.get(), selfLinkProvider.get());
-
-        return assembler;
     }
 
     public EntityModel<Object> toModel(Object entity) {
-        var representationModel = getAssembler().toFullResource(entity);
+        var representationModel = assembler.get().toFullResource(entity);
+        if (!processorsApplicable.computeIfAbsent(entity.getClass(), this::hasApplicableProcessors)) {
+            return representationModel;
+        }
         return representationModelProcessorInvoker.get().invokeProcessorsFor(representationModel);
     }
 
+    /**
+     * Determines whether any processor could be invoked for the model of an entity of the given type.
+     * <p>
+     * This check is more lenient than the one of {@link RepresentationModelProcessorInvoker}: when it can not be
+     * decided from the declared generic types, the processors are invoked.
+     */
+    private boolean hasApplicableProcessors(Class<?> entityType) {
+        for (var processorType : processorTypes.get()) {
+            var modelType = processorType.resolve();
+            if (modelType == null) {
+                return true;
+            }
+            if (!modelType.isAssignableFrom(PersistentEntityResource.class)) {
+                continue;
+            }
+            var contentType = processorType.as(EntityModel.class).getGeneric(0).resolve();
+            if (contentType == null || contentType.isAssignableFrom(entityType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
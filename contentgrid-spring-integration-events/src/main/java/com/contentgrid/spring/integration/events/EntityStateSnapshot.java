@@ -0,0 +1,32 @@
+package com.contentgrid.spring.integration.events;
+
+import lombok.NonNull;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * The state of an entity before it was updated, as the array of property values that Hibernate loaded.
+ * <p>
+ * Capturing the state is cheap: no copy of the entity is made unless the old state can not be rendered from the
+ * snapshot directly.
+ *
+ * @param entity The updated entity
+ * @param persister The persister of the entity, which describes the properties in the state array
+ * @param state The property values before the update, in the order of {@link EntityPersister#getPropertyNames()}
+ */
+public record EntityStateSnapshot(
+        @NonNull Object entity,
+        @NonNull EntityPersister persister,
+        @NonNull Object[] state
+) {
+
+    /**
+     * Creates a copy of the entity with its old state
+     */
+    public Object toEntity() {
+        Object oldEntity = BeanUtils.instantiateClass(entity.getClass());
+        BeanUtils.copyProperties(entity, oldEntity);
+        persister.setPropertyValues(oldEntity, state);
+        return oldEntity;
+    }
+}
@@ -0,0 +1,84 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer.ChangeEventPayload;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.NonNull;
+import org.springframework.integration.transformer.AbstractPayloadTransformer;
+
+/**
+ * Replaces the old and new representations of an update event by a JSON Merge Patch (RFC 7386) between them.
+ * <p>
+ * Accepts both {@link ChangeEventPayload}s and change event payloads that were already rendered to JSON (from the
+ * outbox). Events other than updates are passed through unchanged.
+ */
+class MergePatchPayloadTransformer extends AbstractPayloadTransformer<Object, Object> {
+
+    private static final String UPDATE = "update";
+
+    @Override
+    protected Object transformPayload(Object payload) {
+        String trigger;
+        JsonNode oldNode;
+        JsonNode newNode;
+        if (payload instanceof ChangeEventPayload changeEventPayload) {
+            trigger = changeEventPayload.getTrigger();
+            oldNode = changeEventPayload.getOld();
+            newNode = changeEventPayload.getNew();
+        } else if (payload instanceof JsonNode jsonPayload) {
+            trigger = jsonPayload.path("trigger").asText();
+            oldNode = jsonPayload.get("old");
+            newNode = jsonPayload.get("new");
+        } else {
+            return payload;
+        }
+
+        if (!UPDATE.equals(trigger) || oldNode == null || newNode == null || newNode.isNull()) {
+            return payload;
+        }
+
+        return new ChangeEventMergePatchPayload(
+                trigger,
+                newNode.path("_links").path("self").path("href").asText(null),
+                mergePatch(oldNode, newNode)
+        );
+    }
+
+    static JsonNode mergePatch(@NonNull JsonNode source, @NonNull JsonNode target) {
+        if (!(source instanceof ObjectNode sourceObject) || !(target instanceof ObjectNode targetObject)) {
+            return target;
+        }
+
+        var patch = JsonNodeFactory.instance.objectNode();
+        sourceObject.fieldNames().forEachRemaining(fieldName -> {
+            if (!targetObject.has(fieldName)) {
+                patch.putNull(fieldName);
+            }
+        });
+        targetObject.fields().forEachRemaining(field -> {
+            var sourceValue = sourceObject.get(field.getKey());
+            if (sourceValue == null) {
+                patch.set(field.getKey(), field.getValue());
+            } else if (!sourceValue.equals(field.getValue())) {
+                patch.set(field.getKey(), mergePatch(sourceValue, field.getValue()));
+            }
+        });
+        return patch;
+    }
+
+    /**
+     * Payload of an update event in the {@link ChangeEventPayloadFormat#MERGE_PATCH} format
+     *
+     * @param trigger Always {@code update}
+     * @param self The self link of the updated entity
+     * @param patch JSON Merge Patch that transforms the old representation into the new representation
+     */
+    record ChangeEventMergePatchPayload(
+            String trigger,
+            String self,
+            JsonNode patch
+    ) {
+
+    }
+}
@@ -0,0 +1,183 @@
+package com.contentgrid.spring.integration.events;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Renders the old state of an updated entity by patching a copy of the rendered new state of that entity.
+ * <p>
+ * Only properties that changed are replaced; links do not depend on the entity state, and association values are
+ * only rendered as links. Changed values are rendered with the serializer of their Jackson property, so property-level
+ * annotations like {@code @JsonFormat} apply in the same way as for the new state. Embedded values are patched
+ * property by property.
+ * <p>
+ * When a changed property can not be located in the rendered document, the old state can not be rendered this way,
+ * and the caller has to render a copy of the entity.
+ */
+@RequiredArgsConstructor
+class OldStateJsonRenderer {
+
+    private final ObjectMapper halObjectMapper;
+
+    /**
+     * Jackson property writers by the internal name of their property, by bean class. Empty when the bean is not
+     * serialized as a plain bean.
+     */
+    private final Map<Class<?>, Map<String, BeanPropertyWriter>> propertyWriters = new ConcurrentHashMap<>();
+
+    Optional<JsonNode> render(EntityStateSnapshot oldState, JsonNode newState) {
+        if (!(newState instanceof ObjectNode newObject)) {
+            return Optional.empty();
+        }
+
+        var persister = oldState.persister();
+        var oldObject = newObject.deepCopy();
+        var provider = halObjectMapper.getSerializerProviderInstance();
+        try {
+            var patched = patch(
+                    oldObject,
+                    oldState.entity().getClass(),
+                    persister.getPropertyNames(),
+                    persister.getPropertyTypes(),
+                    oldState.state(),
+                    persister.getValues(oldState.entity()),
+                    provider
+            );
+            return patched ? Optional.of(oldObject) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the values of the properties that changed with their old value
+     *
+     * @return {@code false} when a changed property can not be patched
+     */
+    private boolean patch(ObjectNode target, Class<?> beanType, String[] propertyNames, Type[] propertyTypes,
+            Object[] oldValues, Object[] currentValues, SerializerProvider provider) throws IOException {
+        var writers = findPropertyWriters(beanType, provider);
+
+        for (int i = 0; i < propertyNames.length; i++) {
+            var type = propertyTypes[i];
+            if (type.isAssociationType() || type.isEqual(oldValues[i], currentValues[i])) {
+                continue;
+            }
+            var writer = writers.get(propertyNames[i]);
+            if (writer == null) {
+                if (writers.isEmpty()) {
+                    // Not serialized as a plain bean; properties can not be located
+                    return false;
+                }
+                // Not serialized at all
+                continue;
+            }
+            if (writer.isUnwrapping()) {
+                return false;
+            }
+
+            var jsonName = writer.getName();
+            var oldValue = oldValues[i];
+            if (type instanceof CompositeType compositeType && oldValue != null && currentValues[i] != null
+                    && target.get(jsonName) instanceof ObjectNode nested) {
+                var patched = patch(
+                        nested,
+                        compositeType.getReturnedClass(),
+                        compositeType.getPropertyNames(),
+                        compositeType.getSubtypes(),
+                        compositeType.getPropertyValues(oldValue),
+                        compositeType.getPropertyValues(currentValues[i]),
+                        provider
+                );
+                if (patched) {
+                    continue;
+                }
+                // Fall back to rendering the embedded value as a whole
+            }
+
+            if (oldValue == null && writer.willSuppressNulls()) {
+                target.remove(jsonName);
+            } else if (!target.has(jsonName)) {
+                // Left out of the new state for another reason than being null
+                return false;
+            } else {
+                target.set(jsonName, render(writer, oldValue, provider));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders a property value in the same way as the bean serializer renders the property
+     */
+    private JsonNode render(BeanPropertyWriter writer, Object value, SerializerProvider provider) throws IOException {
+        var buffer = new TokenBuffer(halObjectMapper, false);
+        if (value == null) {
+            provider.findNullValueSerializer(writer).serialize(null, buffer, provider);
+        } else {
+            JsonSerializer<Object> serializer = writer.getSerializer();
+            if (serializer == null) {
+                serializer = provider.findPrimaryPropertySerializer(value.getClass(), writer);
+            }
+            var typeSerializer = writer.getTypeSerializer();
+            if (typeSerializer == null) {
+                serializer.serialize(value, buffer, provider);
+            } else {
+                serializer.serializeWithType(value, buffer, provider, typeSerializer);
+            }
+        }
+        try (var parser = buffer.asParser(halObjectMapper)) {
+            return halObjectMapper.readTree(parser);
+        }
+    }
+
+    private Map<String, BeanPropertyWriter> findPropertyWriters(Class<?> beanType, SerializerProvider provider)
+            throws JsonMappingException {
+        var writers = propertyWriters.get(beanType);
+        if (writers == null) {
+            writers = createPropertyWriters(beanType, provider);
+            propertyWriters.put(beanType, writers);
+        }
+        return writers;
+    }
+
+    private Map<String, BeanPropertyWriter> createPropertyWriters(Class<?> beanType, SerializerProvider provider)
+            throws JsonMappingException {
+        if (!(provider.findValueSerializer(beanType) instanceof BeanSerializerBase beanSerializer)) {
+            return Map.of();
+        }
+
+        var writersByJsonName = new HashMap<String, BeanPropertyWriter>();
+        beanSerializer.properties().forEachRemaining(property -> {
+            if (property instanceof BeanPropertyWriter writer) {
+                writersByJsonName.put(writer.getName(), writer);
+            }
+        });
+
+        // Hibernate identifies properties by their internal name; Jackson writers by their JSON name
+        var writers = new HashMap<String, BeanPropertyWriter>();
+        var config = halObjectMapper.getSerializationConfig();
+        for (var property : config.introspect(halObjectMapper.constructType(beanType)).findProperties()) {
+            var writer = property.couldSerialize() ? writersByJsonName.get(property.getName()) : null;
+            if (writer != null) {
+                writers.put(property.getInternalName(), writer);
+            }
+        }
+        return Map.copyOf(writers);
+    }
+}
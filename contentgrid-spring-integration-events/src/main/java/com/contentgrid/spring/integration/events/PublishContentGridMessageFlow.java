@@ -1,34 +1,146 @@
 package com.contentgrid.spring.integration.events;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
-import org.springframework.hateoas.MediaTypes;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.NonNull;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.IntegrationFlowDefinition;
-import org.springframework.integration.dsl.Transformers;
-import org.springframework.integration.support.json.Jackson2JsonObjectMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.util.ClassUtils;
 
-@RequiredArgsConstructor
 public class PublishContentGridMessageFlow implements IntegrationFlow {
 
     private final ContentGridEventHandlerProperties properties;
+    /**
+     * Renders {@link EntityChangeEventPublisher.EntityChangeEvent} payloads; {@code null} when the payloads are already
+     * rendered
+     */
+    @Nullable
     private final EntityChangeEventTransformer toPersistentEntityTransformer;
     private final ObjectMapper halObjectMapper;
     private final List<EntityChangeEventHandler> handlers;
+    /**
+     * Executor that runs the handlers; {@code null} to run them on the thread that publishes the event
+     */
+    @Nullable
+    private final Executor handlerExecutor;
+    private final ObservationRegistry observationRegistry;
+
+    public PublishContentGridMessageFlow(
+            ContentGridEventHandlerProperties properties,
+            @Nullable EntityChangeEventTransformer toPersistentEntityTransformer,
+            ObjectMapper halObjectMapper,
+            List<EntityChangeEventHandler> handlers
+    ) {
+        this(properties, toPersistentEntityTransformer, halObjectMapper, handlers, null, null);
+    }
+
+    /**
+     * @param observationRegistry Registry for the observations of the stages of publishing an event, see
+     * {@link ChangeEventObservationContext}; observations are not recorded when absent
+     */
+    @Builder
+    private PublishContentGridMessageFlow(
+            @NonNull ContentGridEventHandlerProperties properties,
+            @Nullable EntityChangeEventTransformer toPersistentEntityTransformer,
+            @NonNull ObjectMapper halObjectMapper,
+            @NonNull List<EntityChangeEventHandler> handlers,
+            @Nullable Executor handlerExecutor,
+            @Nullable ObservationRegistry observationRegistry
+    ) {
+        this.properties = properties;
+        this.toPersistentEntityTransformer = toPersistentEntityTransformer;
+        this.halObjectMapper = halObjectMapper;
+        this.handlers = handlers;
+        this.handlerExecutor = handlerExecutor;
+        this.observationRegistry = observationRegistry == null ? ObservationRegistry.NOOP : observationRegistry;
+    }
 
     @Override
     public void configure(IntegrationFlowDefinition<?> flow) {
-        flow.transform(toPersistentEntityTransformer)
-                .enrichHeaders(Map.of(
-                        "application_id", properties.getSystem().getApplicationId(),
-                        "deployment_id", properties.getSystem().getDeploymentId(),
-                        "webhookConfigUrl", properties.getEvents().getWebhookConfigUrl())
-                )
-                .transform(
-                        Transformers.toJson(new Jackson2JsonObjectMapper(halObjectMapper), MediaTypes.HAL_JSON_VALUE));
-
-        handlers.forEach(handler -> flow.handle(handler.get()));
+        if (toPersistentEntityTransformer != null) {
+            flow.transform(toPersistentEntityTransformer, endpoint -> endpoint.advice(
+                    new ChangeEventObservationAdvice(observationRegistry, ChangeEventObservationContext.RENDER)));
+        }
+        flow.enrichHeaders(Map.of(
+                "application_id", properties.getSystem().getApplicationId(),
+                "deployment_id", properties.getSystem().getDeploymentId(),
+                "webhookConfigUrl", properties.getEvents().getWebhookConfigUrl())
+        );
+
+        if (handlerExecutor != null) {
+            // Entities are rendered on the publishing thread: they can only be accessed safely from there.
+            // The channel is not named, because multiple flows hand their events over to the executor.
+            flow.channel(channels -> channels.executor(propagateObservation(handlerExecutor)));
+        }
+
+        var handlersBySerialization = new LinkedHashMap<Serialization, List<EntityChangeEventHandler>>();
+        handlers.forEach(handler -> handlersBySerialization
+                .computeIfAbsent(new Serialization(handler.payloadFormat(), handler.binaryPayload()),
+                        serialization -> new ArrayList<>())
+                .add(handler));
+
+        // Every handler receives every event, in its own payload format.
+        // Each format is only serialized once per kind of body, no matter how many handlers use it.
+        flow.publishSubscribeChannel(publishSubscribe -> handlersBySerialization.forEach(
+                (serialization, formatHandlers) -> publishSubscribe.subscribe(subFlow -> {
+                    var format = serialization.format();
+                    if (format == ChangeEventPayloadFormat.MERGE_PATCH) {
+                        subFlow.transform(new MergePatchPayloadTransformer());
+                    }
+                    subFlow.transform(new ChangeEventPayloadSerializer(halObjectMapper, serialization.binary()),
+                            endpoint -> endpoint.advice(
+                                    new ChangeEventObservationAdvice(observationRegistry,
+                                            ChangeEventObservationContext.SERIALIZE,
+                                            KeyValues.of(ChangeEventObservationContext.FORMAT,
+                                                    format.name().toLowerCase(Locale.ROOT)))));
+                    if (formatHandlers.size() == 1) {
+                        handle(subFlow, formatHandlers.get(0).get());
+                    } else {
+                        subFlow.publishSubscribeChannel(formatPublishSubscribe -> formatHandlers.forEach(handler ->
+                                formatPublishSubscribe.subscribe(handlerFlow -> handle(handlerFlow, handler.get()))
+                        ));
+                    }
+                })
+        ));
+    }
+
+    private record Serialization(ChangeEventPayloadFormat format, boolean binary) {
+
+    }
+
+    private void handle(IntegrationFlowDefinition<?> flow, MessageHandler messageHandler) {
+        flow.handle(messageHandler, endpoint -> endpoint.advice(
+                new ChangeEventObservationAdvice(observationRegistry, ChangeEventObservationContext.SEND,
+                        KeyValues.of(ChangeEventObservationContext.HANDLER,
+                                ClassUtils.getShortName(messageHandler.getClass())))));
+    }
+
+    /**
+     * Runs the tasks of the executor in the scope of the observation that is current when they are submitted, so the
+     * observations of the handlers are linked to the request that changed the entities.
+     */
+    private Executor propagateObservation(Executor executor) {
+        return task -> {
+            var parent = observationRegistry.getCurrentObservation();
+            if (parent == null) {
+                executor.execute(task);
+                return;
+            }
+            executor.execute(() -> {
+                try (var scope = parent.openScope()) {
+                    task.run();
+                }
+            });
+        };
     }
 }
@@ -0,0 +1,66 @@
+package com.contentgrid.spring.integration.events;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+
+/**
+ * Collects the change events of the current transaction of a Hibernate session, and hands them off when the
+ * transaction completes.
+ * <p>
+ * Multiple changes to the same entity are coalesced, see {@link CoalescedEntityChangeEvents}.
+ */
+public abstract class TransactionChangeEventCollector {
+
+    private final Map<SharedSessionContractImplementor, CoalescedEntityChangeEvents> pendingEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a change event to the current transaction of a session
+     *
+     * @param session The session in which the change happened
+     * @param changeEvent The change event
+     */
+    public void add(@NonNull EventSource session, @NonNull EntityChangeEvent changeEvent) {
+        var events = pendingEvents.get(session);
+        if (events == null) {
+            events = new CoalescedEntityChangeEvents();
+            pendingEvents.put(session, events);
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::beforeCompletion);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) this::afterCompletion);
+        }
+        events.add(changeEvent);
+    }
+
+    private void beforeCompletion(SessionImplementor session) {
+        var events = pendingEvents.get(session);
+        if (events != null && !events.isEmpty()) {
+            beforeCommit(session, events.toList());
+        }
+    }
+
+    private void afterCompletion(boolean success, SharedSessionContractImplementor session) {
+        var events = pendingEvents.remove(session);
+        if (success && events != null && !events.isEmpty()) {
+            afterCommit(events.toList());
+        }
+    }
+
+    /**
+     * Called right before the transaction commits, after the last flush, with the coalesced change events
+     */
+    protected void beforeCommit(SessionImplementor session, List<EntityChangeEvent> events) {
+    }
+
+    /**
+     * Called after the transaction was committed, with the coalesced change events
+     */
+    protected void afterCommit(List<EntityChangeEvent> events) {
+    }
+}
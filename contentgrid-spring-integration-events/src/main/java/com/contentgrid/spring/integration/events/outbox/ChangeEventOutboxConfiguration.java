@@ -0,0 +1,85 @@
+package com.contentgrid.spring.integration.events.outbox;
+
+import com.contentgrid.spring.integration.events.ContentGridEventHandlerProperties;
+import com.contentgrid.spring.integration.events.EntityChangeEventHandler;
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer;
+import com.contentgrid.spring.integration.events.PublishContentGridMessageFlow;
+import io.micrometer.observation.ObservationRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores entity change events in an outbox table instead of publishing them while Hibernate flushes.
+ * <p>
+ * Must be imported in addition to {@link com.contentgrid.spring.integration.events.ChangeEventPublicationConfiguration}
+ */
+@Configuration(proxyBeanMethods = false)
+public class ChangeEventOutboxConfiguration {
+
+    public static final String OUTBOX_CHANNEL = "contentgrid.events.outbox.channel";
+
+    @Bean
+    EntityChangeEventOutbox contentGridEntityChangeEventOutbox(
+            EntityChangeEventTransformer entityChangeEventTransformer,
+            @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter
+    ) {
+        return new EntityChangeEventOutbox(entityChangeEventTransformer,
+                typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper());
+    }
+
+    @Bean(OUTBOX_CHANNEL)
+    MessageChannel contentGridChangeEventOutboxChannel() {
+        return new DirectChannel();
+    }
+
+    @Bean
+    EntityChangeEventOutboxRelay contentGridEntityChangeEventOutboxRelay(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(OUTBOX_CHANNEL) MessageChannel outboxChannel,
+            @Qualifier(IntegrationContextUtils.TASK_SCHEDULER_BEAN_NAME) TaskScheduler taskScheduler,
+            @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter,
+            ContentGridEventHandlerProperties eventHandlerProperties
+    ) {
+        return new EntityChangeEventOutboxRelay(
+                new JdbcTemplate(dataSource),
+                new TransactionTemplate(transactionManager),
+                outboxChannel,
+                taskScheduler,
+                typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper(),
+                eventHandlerProperties.getEvents().getOutbox()
+        );
+    }
+
+    @Bean
+    IntegrationFlow contentGridChangeEventOutboxFlow(
+            ObjectProvider<EntityChangeEventHandler> handlers,
+            @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter typeConstrainedMappingJackson2HttpMessageConverter,
+            ContentGridEventHandlerProperties eventHandlerProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        return IntegrationFlow
+                .from(OUTBOX_CHANNEL)
+                .to(PublishContentGridMessageFlow.builder()
+                        .properties(eventHandlerProperties)
+                        // Events in the outbox are already rendered, and the relay already publishes off the threads
+                        // that changed the entities
+                        .halObjectMapper(typeConstrainedMappingJackson2HttpMessageConverter.getObjectMapper())
+                        .handlers(handlers.stream().toList())
+                        .observationRegistry(observationRegistry.getIfAvailable())
+                        .build()
+                );
+    }
+}
@@ -0,0 +1,76 @@
+package com.contentgrid.spring.integration.events.outbox;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer;
+import com.contentgrid.spring.integration.events.TransactionChangeEventCollector;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * Stores entity change events in the outbox table, in the same transaction as the change itself.
+ * <p>
+ * Events are collected per transaction while Hibernate flushes. Right before the transaction completes, they are
+ * coalesced, rendered and written to the outbox table in a single JDBC batch. When the transaction is rolled back,
+ * nothing is written, so no events are published for changes that never happened. The
+ * {@link EntityChangeEventOutboxRelay} publishes the stored events afterward.
+ */
+@RequiredArgsConstructor
+public class EntityChangeEventOutbox extends TransactionChangeEventCollector {
+
+    public static final String TABLE_NAME = "contentgrid_event_outbox";
+
+    /**
+     * Migration script that creates the outbox table on PostgreSQL
+     */
+    public static final String SCHEMA_LOCATION = "db/contentgrid/event-outbox/R__contentgrid_event_outbox.sql";
+
+    private static final String INSERT_SQL = "INSERT INTO %s (change_kind, entity, payload) VALUES (?, ?, ?)"
+            .formatted(TABLE_NAME);
+
+    @NonNull
+    private final EntityChangeEventTransformer entityChangeEventTransformer;
+
+    @NonNull
+    private final ObjectMapper halObjectMapper;
+
+    @Override
+    protected void beforeCommit(SessionImplementor session, List<EntityChangeEvent> events) {
+        var rows = events.stream().map(this::render).toList();
+
+        session.doWork(connection -> {
+            try (var statement = connection.prepareStatement(INSERT_SQL)) {
+                for (var row : rows) {
+                    statement.setString(1, row.changeKind());
+                    statement.setString(2, row.entity());
+                    statement.setString(3, row.payload());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private OutboxRow render(EntityChangeEvent changeEvent) {
+        var payload = entityChangeEventTransformer.transform(new GenericMessage<>(changeEvent)).getPayload();
+        try {
+            return new OutboxRow(
+                    changeEvent.getTrigger().name().toLowerCase(Locale.ROOT),
+                    changeEvent.getDomainType().getName(),
+                    halObjectMapper.writeValueAsString(payload)
+            );
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record OutboxRow(String changeKind, String entity, String payload) {
+
+    }
+}
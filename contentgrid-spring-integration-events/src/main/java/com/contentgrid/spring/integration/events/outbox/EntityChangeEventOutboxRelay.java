@@ -0,0 +1,150 @@
+package com.contentgrid.spring.integration.events.outbox;
+
+import com.contentgrid.spring.integration.events.ContentGridEventHandlerProperties.Outbox;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes the entity change events that were stored by {@link EntityChangeEventOutbox}.
+ * <p>
+ * The outbox table is polled at a fixed delay. Every batch is removed from the table and sent to the output channel in
+ * a single transaction, so a batch that fails to be published is retried on the next poll. Rows that are being relayed
+ * by another instance of the application are skipped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EntityChangeEventOutboxRelay implements SmartLifecycle, InitializingBean {
+
+    private static final String DRAIN_SQL = """
+            DELETE FROM %1$s WHERE id IN (
+                SELECT id FROM %1$s ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+            ) RETURNING id, change_kind, entity, payload""".formatted(EntityChangeEventOutbox.TABLE_NAME);
+
+    @NonNull
+    private final JdbcTemplate jdbcTemplate;
+
+    @NonNull
+    private final TransactionTemplate transactionTemplate;
+
+    @NonNull
+    private final MessageChannel outputChannel;
+
+    @NonNull
+    private final TaskScheduler taskScheduler;
+
+    @NonNull
+    private final ObjectMapper objectMapper;
+
+    @NonNull
+    private final Outbox properties;
+
+    private ScheduledFuture<?> scheduledRelay;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.isInitializeSchema()) {
+            return;
+        }
+        var databaseProductName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(databaseProductName)) {
+            log.warn("Not creating the entity change event outbox table: {} is not supported", databaseProductName);
+            return;
+        }
+        var schema = new ClassPathResource(EntityChangeEventOutbox.SCHEMA_LOCATION, getClass().getClassLoader());
+        jdbcTemplate.execute(schema.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduledRelay == null) {
+            scheduledRelay = taskScheduler.scheduleWithFixedDelay(this::relayAll, properties.getPollInterval());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduledRelay != null) {
+            scheduledRelay.cancel(false);
+            scheduledRelay = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduledRelay != null;
+    }
+
+    private void relayAll() {
+        try {
+            while (relayBatch() == properties.getBatchSize()) {
+                // A full batch was relayed; there may be more events waiting
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay entity change events from the outbox, will retry", e);
+        }
+    }
+
+    /**
+     * Relays a single batch of events from the outbox
+     *
+     * @return The number of events that were relayed
+     */
+    public int relayBatch() {
+        var relayed = transactionTemplate.execute(status -> {
+            var rows = jdbcTemplate.query(DRAIN_SQL, EntityChangeEventOutboxRelay::mapRow, properties.getBatchSize());
+            // DELETE ... RETURNING does not guarantee any order
+            rows.sort(Comparator.comparingLong(OutboxRow::id));
+            for (var row : rows) {
+                outputChannel.send(toMessage(row));
+            }
+            return rows.size();
+        });
+        return Objects.requireNonNullElse(relayed, 0);
+    }
+
+    private Message<?> toMessage(OutboxRow row) {
+        try {
+            return MessageBuilder.withPayload(objectMapper.readTree(row.payload()))
+                    .setHeader("trigger", row.changeKind())
+                    .setHeader("entity", row.entity())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static OutboxRow mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new OutboxRow(
+                resultSet.getLong("id"),
+                resultSet.getString("change_kind"),
+                resultSet.getString("entity"),
+                resultSet.getString("payload")
+        );
+    }
+
+    private record OutboxRow(long id, String changeKind, String entity, String payload) {
+
+    }
+}
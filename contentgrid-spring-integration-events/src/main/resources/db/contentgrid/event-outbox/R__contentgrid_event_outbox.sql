@@ -0,0 +1,9 @@
+-- Outbox table for entity change events (contentgrid.events.outbox.enabled=true), for PostgreSQL.
+-- Add classpath:db/contentgrid/event-outbox to spring.flyway.locations to apply it with the other migrations.
+CREATE TABLE IF NOT EXISTS contentgrid_event_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    change_kind VARCHAR(16) NOT NULL,
+    entity VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL
+);
@@ -0,0 +1,69 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.TestConfig.TestMessageHandler;
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = {InvoicingApplication.class, TestConfig.class}, properties = {
+        "contentgrid.events.coalesce=true"
+})
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+class AfterCommitEntityChangeEventPublisherTest {
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    TestMessageHandler testMessageHandler;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void resetMessageHandler() {
+        testMessageHandler.reset();
+    }
+
+    @Test
+    void changesInTransaction_arePublishedOnceAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            var customer = new Customer();
+            customer.setVat("BE-COALESCE-1");
+            customer = customerRepository.saveAndFlush(customer);
+
+            customer.setName("first name");
+            customerRepository.saveAndFlush(customer);
+            customer.setName("second name");
+            customerRepository.saveAndFlush(customer);
+
+            assertThat(testMessageHandler.messages()).isEmpty();
+        });
+
+        assertThat(testMessageHandler.messages()).singleElement().satisfies(message -> {
+            assertThat(message.getHeaders()).extractingByKey("trigger").isEqualTo("create");
+            assertThat(message.getPayload()).asString().contains("second name");
+        });
+    }
+
+    @Test
+    void rolledBackChanges_areNotPublished() {
+        transactionTemplate.executeWithoutResult(status -> {
+            var customer = new Customer();
+            customer.setVat("BE-COALESCE-2");
+            customerRepository.saveAndFlush(customer);
+            status.setRollbackOnly();
+        });
+
+        assertThat(testMessageHandler.messages()).isEmpty();
+    }
+}
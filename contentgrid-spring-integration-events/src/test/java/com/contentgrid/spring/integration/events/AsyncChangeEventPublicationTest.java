@@ -0,0 +1,72 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.contentgrid.spring.integration.events.TestConfig.TestMessageHandler;
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+
+@SpringBootTest(classes = {InvoicingApplication.class, TestConfig.class,
+        AsyncChangeEventPublicationTest.HandlerThreadConfig.class}, properties = {
+        "contentgrid.events.async.enabled=true"
+})
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+class AsyncChangeEventPublicationTest {
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    TestMessageHandler testMessageHandler;
+
+    @Autowired
+    HandlerThreadConfig handlerThreadConfig;
+
+    @BeforeEach
+    void resetMessageHandler() {
+        testMessageHandler.reset();
+        handlerThreadConfig.handlerThreads.clear();
+    }
+
+    @Test
+    void eventsAreHandledOnExecutorThread() {
+        var customer = new Customer();
+        customer.setVat("BE-ASYNC-1");
+        customerRepository.save(customer);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(testMessageHandler.lastMessage()).hasValueSatisfying(message -> {
+                assertThat(message.getHeaders()).extractingByKey("trigger").isEqualTo("create");
+            });
+        });
+
+        assertThat(handlerThreadConfig.handlerThreads)
+                .isNotEmpty()
+                .allSatisfy(thread -> assertThat(thread).startsWith("contentgrid-events-"))
+                .doesNotContain(Thread.currentThread().getName());
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class HandlerThreadConfig {
+
+        final Set<String> handlerThreads = ConcurrentHashMap.newKeySet();
+
+        @Bean
+        EntityChangeEventHandler threadRecordingEventHandler() {
+            return () -> message -> handlerThreads.add(Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation.Context;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+
+@SpringBootTest(classes = {InvoicingApplication.class, TestConfig.class,
+        ChangeEventObservationTest.ObservationConfig.class})
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+class ChangeEventObservationTest {
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    ObservationConfig observationConfig;
+
+    @BeforeEach
+    void resetObservations() {
+        observationConfig.contexts.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void publishingStagesAreObserved() {
+        var customer = new Customer();
+        customer.setVat("BE-OBSERVED");
+        customerRepository.save(customer);
+
+        assertThat(observationConfig.contexts)
+                .extracting(ChangeEventObservationContext::getName)
+                .contains(ChangeEventObservationContext.RENDER, ChangeEventObservationContext.SERIALIZE,
+                        ChangeEventObservationContext.SEND);
+
+        assertThat(observationConfig.contexts).allSatisfy(context -> {
+            assertThat(context.getLowCardinalityKeyValues()).contains(
+                    KeyValue.of(ChangeEventObservationContext.TRIGGER, "create"),
+                    KeyValue.of(ChangeEventObservationContext.ENTITY, Customer.class.getName())
+            );
+        });
+
+        assertThat(observationConfig.contexts)
+                .filteredOn(context -> context.getName().equals(ChangeEventObservationContext.SERIALIZE))
+                .allSatisfy(context -> {
+                    assertThat(context.getPayloadSize()).isPositive();
+                    assertThat(context.getLowCardinalityKeyValue(ChangeEventObservationContext.FORMAT))
+                            .isEqualTo(KeyValue.of(ChangeEventObservationContext.FORMAT, "full"));
+                });
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ObservationConfig {
+
+        final List<ChangeEventObservationContext> contexts = new CopyOnWriteArrayList<>();
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            var registry = ObservationRegistry.create();
+            registry.observationConfig().observationHandler(new ObservationHandler<ChangeEventObservationContext>() {
+                @Override
+                public boolean supportsContext(Context context) {
+                    return context instanceof ChangeEventObservationContext;
+                }
+
+                @Override
+                public void onStop(ChangeEventObservationContext context) {
+                    contexts.add(context);
+                }
+            });
+            return registry;
+        }
+    }
+}
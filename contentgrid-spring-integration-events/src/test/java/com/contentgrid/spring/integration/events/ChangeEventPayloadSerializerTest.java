@@ -0,0 +1,58 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer.ChangeEventPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+class ChangeEventPayloadSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serializesPayloadToString() throws Exception {
+        var serializer = new ChangeEventPayloadSerializer(objectMapper);
+
+        var result = serializer.transform(createMessage());
+
+        assertThat(result.getHeaders()).containsEntry("trigger", "create")
+                .containsEntry(MessageHeaders.CONTENT_TYPE, MediaTypes.HAL_JSON_VALUE);
+        assertThat(result.getPayload()).isInstanceOf(String.class).asString().satisfies(body -> assertBody(body));
+    }
+
+    @Test
+    void serializesPayloadToBytes() throws Exception {
+        var serializer = new ChangeEventPayloadSerializer(objectMapper, true);
+
+        var result = serializer.transform(createMessage());
+
+        assertThat(result.getHeaders()).containsEntry("trigger", "create")
+                .containsEntry(MessageHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        assertThat(result.getPayload()).isInstanceOf(byte[].class);
+        assertThat((byte[]) result.getPayload()).asString(StandardCharsets.UTF_8).satisfies(body -> assertBody(body));
+    }
+
+    private Message<ChangeEventPayload> createMessage() throws Exception {
+        var payload = new ChangeEventPayload("create", null, objectMapper.readTree("""
+                {"name": "abc"}
+                """));
+        return MessageBuilder.withPayload(payload)
+                .setHeader("trigger", "create")
+                .build();
+    }
+
+    private static void assertBody(String body) throws Exception {
+        JSONAssert.assertEquals("""
+                {trigger: "create", old: null, new: {name: "abc"}}
+                """, body, true);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.TestConfig.TestMessageHandler;
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = {InvoicingApplication.class, TestConfig.class})
+class ChangeEventSummaryCollectorTest {
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    TestMessageHandler testMessageHandler;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void resetMessageHandler() {
+        testMessageHandler.reset();
+    }
+
+    @AfterEach
+    void cleanup() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void changesInScope_arePublishedAsSummary() {
+        var customers = IntStream.range(0, 3)
+                .mapToObj(i -> {
+                    var customer = new Customer();
+                    customer.setVat("BE-SUMMARY-%d".formatted(i));
+                    return customer;
+                })
+                .toList();
+
+        try (var scope = ChangeEventSummaryScope.open()) {
+            transactionTemplate.executeWithoutResult(status -> customerRepository.saveAll(customers));
+        }
+
+        assertThat(testMessageHandler.messages()).singleElement().satisfies(message -> {
+            assertThat(message.getHeaders())
+                    .containsEntry("trigger", "create")
+                    .containsEntry("entity", Customer.class.getName())
+                    .containsEntry("summary", true);
+            assertThat(message.getPayload()).asString().satisfies(body -> {
+                JSONAssert.assertEquals("""
+                        {
+                            trigger: "create",
+                            ids: ["%s", "%s", "%s"]
+                        }
+                        """.formatted(customers.get(0).getId(), customers.get(1).getId(), customers.get(2).getId()),
+                        body, true);
+            });
+        });
+    }
+
+    @Test
+    void changesAfterScope_arePublishedIndividually() {
+        try (var scope = ChangeEventSummaryScope.open()) {
+            assertThat(ChangeEventSummaryScope.isActive()).isTrue();
+        }
+        assertThat(ChangeEventSummaryScope.isActive()).isFalse();
+
+        var customer = new Customer();
+        customer.setVat("BE-SUMMARY-AFTER");
+        customerRepository.save(customer);
+
+        assertThat(testMessageHandler.messages()).singleElement().satisfies(message -> {
+            assertThat(message.getHeaders()).doesNotContainKey("summary");
+        });
+    }
+
+    @Test
+    void nestedScopes_summarizeUntilOutermostScopeIsClosed() {
+        try (var outer = ChangeEventSummaryScope.open()) {
+            try (var inner = ChangeEventSummaryScope.open()) {
+                assertThat(ChangeEventSummaryScope.isActive()).isTrue();
+            }
+            assertThat(ChangeEventSummaryScope.isActive()).isTrue();
+        }
+        assertThat(ChangeEventSummaryScope.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class ChangeEventSummaryRequestFilterTest {
+
+    private static final String ROLE = "bulk-importer";
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SummaryScopeController())
+            .addFilters(new ChangeEventSummaryRequestFilter(request -> request.isUserInRole(ROLE)))
+            .build();
+
+    @RestController
+    static class SummaryScopeController {
+
+        @PostMapping("/scope")
+        String scope() {
+            return String.valueOf(ChangeEventSummaryScope.isActive());
+        }
+    }
+
+    @Test
+    void summarizesAllowedRequestWithHeader() throws Exception {
+        mockMvc.perform(post("/scope")
+                        .header(ChangeEventSummaryRequestFilter.HEADER, "Summary")
+                        .with(request -> {
+                            request.addUserRole(ROLE);
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+    }
+
+    @Test
+    void ignoresHeaderOfRequestThatIsNotAllowed() throws Exception {
+        mockMvc.perform(post("/scope")
+                        .header(ChangeEventSummaryRequestFilter.HEADER, ChangeEventSummaryRequestFilter.SUMMARY))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+    }
+
+    @Test
+    void doesNotSummarizeRequestWithoutHeader() throws Exception {
+        mockMvc.perform(post("/scope")
+                        .with(request -> {
+                            request.addUserRole(ROLE);
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+    }
+
+    @Test
+    void closesScopeAfterRequest() throws Exception {
+        mockMvc.perform(post("/scope")
+                .header(ChangeEventSummaryRequestFilter.HEADER, ChangeEventSummaryRequestFilter.SUMMARY)
+                .with(request -> {
+                    request.addUserRole(ROLE);
+                    return request;
+                }));
+
+        mockMvc.perform(post("/scope"))
+                .andExpect(content().string("false"));
+    }
+}
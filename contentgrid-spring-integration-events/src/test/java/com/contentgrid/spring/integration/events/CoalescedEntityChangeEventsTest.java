@@ -0,0 +1,97 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent;
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import org.junit.jupiter.api.Test;
+
+class CoalescedEntityChangeEventsTest {
+
+    private static EntityChangeEvent event(ChangeKind trigger, Object oldEntity, Object newEntity) {
+        return EntityChangeEvent.builder()
+                .trigger(trigger)
+                .domainType(Customer.class)
+                .oldEntity(oldEntity)
+                .newEntity(newEntity)
+                .build();
+    }
+
+    @Test
+    void createFollowedByUpdates_staysCreate() {
+        var customer = new Customer();
+        var events = new CoalescedEntityChangeEvents();
+
+        events.add(event(ChangeKind.CREATE, null, customer));
+        events.add(event(ChangeKind.UPDATE, new Customer(), customer));
+        events.add(event(ChangeKind.UPDATE, customer, customer));
+
+        assertThat(events.toList()).singleElement().satisfies(event -> {
+            assertThat(event.getTrigger()).isEqualTo(ChangeKind.CREATE);
+            assertThat(event.getOldEntity()).isEmpty();
+            assertThat(event.getNewEntity()).containsSame(customer);
+        });
+    }
+
+    @Test
+    void createFollowedByDelete_cancelsOut() {
+        var customer = new Customer();
+        var events = new CoalescedEntityChangeEvents();
+
+        events.add(event(ChangeKind.CREATE, null, customer));
+        events.add(event(ChangeKind.DELETE, customer, null));
+
+        assertThat(events.isEmpty()).isTrue();
+    }
+
+    @Test
+    void multipleUpdates_keepEarliestOldState() {
+        var customer = new Customer();
+        var firstOldState = new Customer();
+        var events = new CoalescedEntityChangeEvents();
+
+        events.add(event(ChangeKind.UPDATE, firstOldState, customer));
+        events.add(event(ChangeKind.UPDATE, new Customer(), customer));
+        events.add(event(ChangeKind.UPDATE, customer, customer));
+
+        assertThat(events.toList()).singleElement().satisfies(event -> {
+            assertThat(event.getTrigger()).isEqualTo(ChangeKind.UPDATE);
+            assertThat(event.getOldEntity()).containsSame(firstOldState);
+            assertThat(event.getNewEntity()).containsSame(customer);
+        });
+    }
+
+    @Test
+    void updateFollowedByDelete_deletesEarliestOldState() {
+        var customer = new Customer();
+        var firstOldState = new Customer();
+        var events = new CoalescedEntityChangeEvents();
+
+        events.add(event(ChangeKind.UPDATE, firstOldState, customer));
+        events.add(event(ChangeKind.DELETE, customer, null));
+
+        assertThat(events.toList()).singleElement().satisfies(event -> {
+            assertThat(event.getTrigger()).isEqualTo(ChangeKind.DELETE);
+            assertThat(event.getOldEntity()).containsSame(firstOldState);
+            assertThat(event.getNewEntity()).isEmpty();
+        });
+    }
+
+    @Test
+    void differentEntities_keepOrderOfFirstChange() {
+        var customer1 = new Customer();
+        var customer2 = new Customer();
+        var events = new CoalescedEntityChangeEvents();
+
+        events.add(event(ChangeKind.CREATE, null, customer1));
+        events.add(event(ChangeKind.CREATE, null, customer2));
+        events.add(event(ChangeKind.UPDATE, new Customer(), customer1));
+
+        assertThat(events.toList()).satisfiesExactly(
+                event -> assertThat(event.getNewEntity()).containsSame(customer1),
+                event -> assertThat(event.getNewEntity()).containsSame(customer2)
+        );
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventPublisher.EntityChangeEvent.ChangeKind;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ConfiguredChangeEventSubscriptionsTest {
+
+    static class Invoice {
+
+    }
+
+    static class Customer {
+
+    }
+
+    @Test
+    void subscribedToListedChangeKinds() {
+        var subscriptions = new ConfiguredChangeEventSubscriptions(Map.of(
+                "invoice", Set.of(ChangeKind.CREATE, ChangeKind.DELETE)
+        ));
+
+        assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.CREATE)).isTrue();
+        assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.UPDATE)).isFalse();
+        assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.DELETE)).isTrue();
+    }
+
+    @Test
+    void unlistedEntity_notSubscribed() {
+        var subscriptions = new ConfiguredChangeEventSubscriptions(Map.of(
+                "invoice", Set.of(ChangeKind.CREATE)
+        ));
+
+        assertThat(subscriptions.isSubscribed(Customer.class, ChangeKind.CREATE)).isFalse();
+    }
+
+    @Test
+    void entityNames_caseInsensitive() {
+        var subscriptions = new ConfiguredChangeEventSubscriptions(Map.of(
+                "Invoice", Set.of(ChangeKind.CREATE),
+                "INVOICE", Set.of(ChangeKind.UPDATE),
+                "customer", Set.of()
+        ));
+
+        assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.CREATE)).isTrue();
+        assertThat(subscriptions.isSubscribed(Invoice.class, ChangeKind.UPDATE)).isTrue();
+        assertThat(subscriptions.isSubscribed(Customer.class, ChangeKind.CREATE)).isFalse();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
 import com.contentgrid.spring.test.fixture.invoicing.model.Invoice;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -33,4 +34,22 @@ class EntityModelAssemblerTest {
         assertThat(model.getLink("d:attachment")).isPresent();
     }
 
-}
\ No newline at end of file
+    @Test
+    void serializesEntitiesConcurrently() {
+        var assembler = new EntityModelAssembler(context);
+
+        var selfLinks = IntStream.range(0, 64)
+                .parallel()
+                .mapToObj(i -> {
+                    var invoice = new Invoice();
+                    invoice.setId(UUID.randomUUID());
+                    var model = assembler.toModel(invoice);
+                    return model.getRequiredLink(IanaLinkRelations.SELF).getHref()
+                            .endsWith("/" + invoice.getId());
+                })
+                .toList();
+
+        assertThat(selfLinks).hasSize(64).containsOnly(true);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.EntityChangeEventTransformer.ChangeEventPayload;
+import com.contentgrid.spring.integration.events.MergePatchPayloadTransformer.ChangeEventMergePatchPayload;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.GenericMessage;
+
+class MergePatchPayloadTransformerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MergePatchPayloadTransformer transformer = new MergePatchPayloadTransformer();
+
+    private JsonNode json(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Test
+    void update_becomesMergePatch() throws Exception {
+        var payload = new ChangeEventPayload(
+                "update",
+                json("""
+                        {"vat": "BE123", "name": "old", "address": {"city": "Ghent", "zip": "9000"}, "notes": "x",
+                         "_links": {"self": {"href": "http://localhost/customers/1"}}}
+                        """),
+                json("""
+                        {"vat": "BE123", "name": "new", "address": {"city": "Ghent", "zip": "9050"},
+                         "_links": {"self": {"href": "http://localhost/customers/1"}}}
+                        """)
+        );
+
+        var result = transformer.transform(new GenericMessage<>(payload)).getPayload();
+
+        var expectedPatch = json("""
+                {"name": "new", "address": {"zip": "9050"}, "notes": null}
+                """);
+        assertThat(result).isInstanceOfSatisfying(ChangeEventMergePatchPayload.class, patchPayload -> {
+            assertThat(patchPayload.trigger()).isEqualTo("update");
+            assertThat(patchPayload.self()).isEqualTo("http://localhost/customers/1");
+            assertThat(patchPayload.patch()).isEqualTo(expectedPatch);
+        });
+    }
+
+    @Test
+    void renderedUpdate_becomesMergePatch() throws Exception {
+        var payload = json("""
+                {"trigger": "update",
+                 "old": {"name": "old", "_links": {"self": {"href": "http://localhost/customers/1"}}},
+                 "new": {"name": "new", "_links": {"self": {"href": "http://localhost/customers/1"}}}}
+                """);
+
+        var result = transformer.transform(new GenericMessage<>(payload)).getPayload();
+
+        var expectedPatch = json("""
+                {"name": "new"}
+                """);
+        assertThat(result).isInstanceOfSatisfying(ChangeEventMergePatchPayload.class, patchPayload -> {
+            assertThat(patchPayload.patch()).isEqualTo(expectedPatch);
+        });
+    }
+
+    @Test
+    void create_isUnchanged() throws Exception {
+        var payload = new ChangeEventPayload("create", null, json("""
+                {"name": "new"}
+                """));
+
+        var result = transformer.transform(new GenericMessage<>(payload)).getPayload();
+
+        assertThat(result).isSameAs(payload);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.contentgrid.spring.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.data.support.auditing.v1.UserMetadata;
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.model.Invoice;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.UUID;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest()
+@ContextConfiguration(classes = InvoicingApplication.class)
+class OldStateJsonRendererTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("halJacksonHttpMessageConverter")
+    private TypeConstrainedMappingJackson2HttpMessageConverter halJacksonHttpMessageConverter;
+
+    private ObjectMapper halObjectMapper;
+    private EntityModelAssembler entityModelAssembler;
+    private OldStateJsonRenderer renderer;
+
+    @BeforeEach
+    void setup() {
+        halObjectMapper = halJacksonHttpMessageConverter.getObjectMapper();
+        entityModelAssembler = new EntityModelAssembler(context);
+        renderer = new OldStateJsonRenderer(halObjectMapper);
+    }
+
+    @Test
+    void rendersChangedSimpleProperties() {
+        var customer = customer();
+        var oldState = snapshot(customer);
+
+        customer.setName("Jane Doe");
+        customer.setBirthday(Instant.parse("1990-02-03T00:00:00Z"));
+        customer.setTotalSpend(null);
+
+        assertRendersSameAsCopy(oldState, customer);
+    }
+
+    @Test
+    void rendersChangedEmbeddedProperties() {
+        var customer = customer();
+        var oldState = snapshot(customer);
+
+        customer.getAuditMetadata().setLastModifiedDate(Instant.parse("2024-05-06T07:08:09Z"));
+        customer.getAuditMetadata().setLastModifiedBy(new UserMetadata("other-id", "default", "Other User"));
+
+        assertRendersSameAsCopy(oldState, customer);
+    }
+
+    @Test
+    void rendersChangedRelations() {
+        var invoice = new Invoice();
+        invoice.setId(UUID.randomUUID());
+        invoice.setNumber("I-1");
+        invoice.setCounterparty(customer());
+        var oldState = snapshot(invoice);
+
+        invoice.setCounterparty(customer());
+        invoice.setPaid(true);
+
+        assertRendersSameAsCopy(oldState, invoice);
+    }
+
+    @Test
+    void rendersUnchangedEntityAsCopyOfNewState() {
+        var customer = customer();
+        var oldState = snapshot(customer);
+        var newState = toJson(customer);
+
+        var rendered = renderer.render(oldState, newState);
+
+        assertThat(rendered).hasValue(newState);
+        assertThat(rendered.get()).isNotSameAs(newState);
+    }
+
+    private void assertRendersSameAsCopy(EntityStateSnapshot oldState, Object entity) {
+        var newState = toJson(entity);
+        var expected = toJson(oldState.toEntity());
+
+        assertThat(expected).isNotEqualTo(newState);
+        assertThat(renderer.render(oldState, newState)).hasValue(expected);
+    }
+
+    private JsonNode toJson(Object entity) {
+        return halObjectMapper.valueToTree(entityModelAssembler.toModel(entity));
+    }
+
+    private EntityStateSnapshot snapshot(Object entity) {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        var persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entity.getClass());
+        var types = persister.getPropertyTypes();
+        var values = persister.getValues(entity);
+        var state = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            state[i] = types[i].deepCopy(values[i], sessionFactory);
+        }
+        return new EntityStateSnapshot(entity, persister, state);
+    }
+
+    private static Customer customer() {
+        var customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setName("John Doe");
+        customer.setVat("BE0123456789");
+        customer.setBirthday(Instant.parse("1985-01-02T00:00:00Z"));
+        customer.setTotalSpend(1000);
+        customer.getAuditMetadata().setCreatedDate(Instant.parse("2024-01-01T00:00:00Z"));
+        customer.getAuditMetadata().setLastModifiedDate(Instant.parse("2024-01-01T00:00:00Z"));
+        customer.getAuditMetadata().setCreatedBy(new UserMetadata("user-id", "default", "Some User"));
+        customer.getAuditMetadata().setLastModifiedBy(new UserMetadata("user-id", "default", "Some User"));
+        return customer;
+    }
+}
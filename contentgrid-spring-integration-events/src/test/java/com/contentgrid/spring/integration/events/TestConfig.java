@@ -1,8 +1,8 @@
 package com.contentgrid.spring.integration.events;
 
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.stream.Stream;
 import org.mockito.Mockito;
 import org.springframework.beans.BeansException;
@@ -27,7 +27,7 @@ public class TestConfig {
 
     public static class TestMessageHandler extends AbstractMessageHandler {
 
-        private final Deque<Message<?>> messages = new LinkedList<>();
+        private final Deque<Message<?>> messages = new ConcurrentLinkedDeque<>();
 
         @Override
         public void destroy() {
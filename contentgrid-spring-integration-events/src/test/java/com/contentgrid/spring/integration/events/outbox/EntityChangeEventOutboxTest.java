@@ -0,0 +1,89 @@
+package com.contentgrid.spring.integration.events.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.spring.integration.events.TestConfig;
+import com.contentgrid.spring.integration.events.TestConfig.TestMessageHandler;
+import com.contentgrid.spring.test.fixture.invoicing.InvoicingApplication;
+import com.contentgrid.spring.test.fixture.invoicing.model.Customer;
+import com.contentgrid.spring.test.fixture.invoicing.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = {InvoicingApplication.class, TestConfig.class}, properties = {
+        "contentgrid.events.outbox.enabled=true",
+        "contentgrid.events.outbox.initialize-schema=true",
+        // Relay is triggered by the tests
+        "contentgrid.events.outbox.poll-interval=1h"
+})
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+class EntityChangeEventOutboxTest {
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    TestMessageHandler testMessageHandler;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityChangeEventOutboxRelay outboxRelay;
+
+    @BeforeEach
+    void reset() {
+        jdbcTemplate.update("DELETE FROM " + EntityChangeEventOutbox.TABLE_NAME);
+        testMessageHandler.reset();
+    }
+
+    private int outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + EntityChangeEventOutbox.TABLE_NAME,
+                Integer.class);
+    }
+
+    @Test
+    void changeEventIsPublishedFromOutbox() {
+        var customer = new Customer();
+        customer.setVat("BE-OUTBOX-1");
+        customerRepository.save(customer);
+
+        assertThat(testMessageHandler.messages()).isEmpty();
+        assertThat(outboxSize()).isEqualTo(1);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        assertThat(testMessageHandler.messages()).singleElement().satisfies(message -> {
+            assertThat(message.getHeaders()).extractingByKey("trigger").isEqualTo("create");
+            assertThat(message.getHeaders()).extractingByKey("entity").isEqualTo(Customer.class.getName());
+            assertThat(message.getPayload()).asString()
+                    .contains("\"trigger\":\"create\"")
+                    .contains("BE-OUTBOX-1");
+        });
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    void rolledBackChangeIsNotStored() {
+        transactionTemplate.executeWithoutResult(status -> {
+            var customer = new Customer();
+            customer.setVat("BE-OUTBOX-2");
+            customerRepository.saveAndFlush(customer);
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxSize()).isZero();
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(testMessageHandler.messages()).isEmpty();
+    }
+
+}